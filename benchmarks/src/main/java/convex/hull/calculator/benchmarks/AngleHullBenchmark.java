@@ -0,0 +1,75 @@
+package convex.hull.calculator.benchmarks;
+
+import java.awt.geom.Arc2D;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import convex.hull.calculator.algorithm.HullCalculator;
+
+/**
+ * The Class AngleHullBenchmark. It measures
+ * <code>HullCalculator.computeAngleHull(double)</code> over the convex hull of
+ * the points.
+ *
+ * @author Teodor Shaterov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AngleHullBenchmark {
+
+	/** The number of points. */
+	@Param({ "1000", "10000", "100000", "1000000", "10000000" })
+	private int size;
+
+	/** The distribution of the points. */
+	@Param({ "UNIFORM", "DISK", "CIRCLE", "GAUSSIAN" })
+	private Distribution distribution;
+
+	/** The angle alpha in degrees. */
+	@Param({ "30", "90", "150" })
+	private int alphaDegrees;
+
+	/** The calculator with the computed convex hull. */
+	private HullCalculator calculator;
+
+	/** The angle alpha in radians. */
+	private double alpha;
+
+	/**
+	 * Generates the points and computes their convex hull.
+	 */
+	@Setup
+	public void setUp() {
+		int[][] points = distribution.generate(size);
+		calculator = new HullCalculator();
+		calculator.addPoints(points[0], points[1], 0, size);
+		calculator.getConvexHull();
+		alpha = Math.toRadians(alphaDegrees);
+	}
+
+	/**
+	 * Computes the angle hull.
+	 *
+	 * @return the arcs
+	 */
+	@Benchmark
+	public List<Arc2D.Double> computeAngleHull() {
+		return calculator.computeAngleHull(alpha);
+	}
+}
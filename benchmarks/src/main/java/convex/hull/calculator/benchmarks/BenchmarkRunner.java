@@ -0,0 +1,60 @@
+package convex.hull.calculator.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The Class BenchmarkRunner. It runs the benchmarks with the usual JMH
+ * command line options. Unless the command line says otherwise, the GC
+ * profiler measures the allocation per operation and the results are
+ * written as JSON to "jmh-result.json", so two releases can be compared.
+ *
+ * @author Teodor Shaterov
+ */
+public final class BenchmarkRunner {
+
+	/** The default file of the results. */
+	private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+	/**
+	 * A private constructor used to show that the class is a Utils one.
+	 */
+	private BenchmarkRunner() {
+	}
+
+	/**
+	 * The main method.
+	 *
+	 * @param args
+	 *            the JMH command line options
+	 * @throws Exception
+	 *             if the options are invalid or a benchmark fails
+	 */
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+		if (commandLine.shouldHelp()) {
+			commandLine.showHelp();
+			return;
+		}
+		if (commandLine.shouldList()) {
+			new Runner(commandLine).list();
+			return;
+		}
+		ChainedOptionsBuilder options = new OptionsBuilder()
+				.parent(commandLine);
+		if (commandLine.getProfilers().isEmpty()) {
+			options.addProfiler(GCProfiler.class);
+		}
+		if (!commandLine.getResultFormat().hasValue()) {
+			options.resultFormat(ResultFormatType.JSON);
+		}
+		if (!commandLine.getResult().hasValue()) {
+			options.result(DEFAULT_RESULT_FILE);
+		}
+		new Runner(options.build()).run();
+	}
+}
@@ -0,0 +1,199 @@
+package convex.hull.calculator.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The Enum Distribution. It generates the point sets used by the benchmarks.
+ * All sets are generated from a fixed seed, so every run measures the same
+ * points.
+ *
+ * @author Teodor Shaterov
+ */
+public enum Distribution {
+
+	/** Uniform points in a square. */
+	UNIFORM {
+		@Override
+		void fill(int[] xs, int[] ys, Random random) {
+			for (int i = 0; i < xs.length; i++) {
+				xs[i] = random.nextInt(2 * EXTENT + 1) - EXTENT;
+				ys[i] = random.nextInt(2 * EXTENT + 1) - EXTENT;
+			}
+		}
+	},
+
+	/** Uniform points in a disk. */
+	DISK {
+		@Override
+		void fill(int[] xs, int[] ys, Random random) {
+			for (int i = 0; i < xs.length; i++) {
+				double radius = EXTENT * Math.sqrt(random.nextDouble());
+				double angle = 2 * Math.PI * random.nextDouble();
+				xs[i] = (int) Math.round(radius * Math.cos(angle));
+				ys[i] = (int) Math.round(radius * Math.sin(angle));
+			}
+		}
+	},
+
+	/**
+	 * Points in convex position on a circle-like polygon, so every point is
+	 * on the hull. The int grid does not allow more than about four million
+	 * strictly convex points, so bigger sets repeat the vertices.
+	 */
+	CIRCLE {
+		@Override
+		void fill(int[] xs, int[] ys, Random random) {
+			int vertices = Math.min(xs.length, MAX_CONVEX_POINTS);
+			long[][] polygon = convexPolygon(vertices);
+			for (int i = 0; i < xs.length; i++) {
+				xs[i] = (int) polygon[0][i % vertices];
+				ys[i] = (int) polygon[1][i % vertices];
+			}
+		}
+	},
+
+	/** Gaussian clusters around random centers. */
+	GAUSSIAN {
+		@Override
+		void fill(int[] xs, int[] ys, Random random) {
+			int[] centerX = new int[CLUSTERS];
+			int[] centerY = new int[CLUSTERS];
+			for (int i = 0; i < CLUSTERS; i++) {
+				centerX[i] = random.nextInt(EXTENT + 1) - EXTENT / 2;
+				centerY[i] = random.nextInt(EXTENT + 1) - EXTENT / 2;
+			}
+			for (int i = 0; i < xs.length; i++) {
+				int cluster = random.nextInt(CLUSTERS);
+				xs[i] = (int) Math.round(centerX[cluster]
+						+ random.nextGaussian() * CLUSTER_DEVIATION);
+				ys[i] = (int) Math.round(centerY[cluster]
+						+ random.nextGaussian() * CLUSTER_DEVIATION);
+			}
+		}
+	};
+
+	/** The half of the side of the square which contains the points. */
+	static final int EXTENT = 1 << 20;
+
+	/** The number of gaussian clusters. */
+	private static final int CLUSTERS = 16;
+
+	/** The standard deviation of a gaussian cluster. */
+	private static final double CLUSTER_DEVIATION = EXTENT / 16.0;
+
+	/** The largest number of generated points in convex position. */
+	private static final int MAX_CONVEX_POINTS = 1 << 22;
+
+	/** The seed of all point sets. */
+	private static final long SEED = 20160101L;
+
+	/**
+	 * Generates a point set.
+	 *
+	 * @param size
+	 *            the number of points
+	 * @return the x coordinates in array[0] and the y coordinates in
+	 *         array[1]
+	 */
+	public int[][] generate(int size) {
+		int[] xs = new int[size];
+		int[] ys = new int[size];
+		fill(xs, ys, new Random(SEED));
+		return new int[][] { xs, ys };
+	}
+
+	/**
+	 * Fills the arrays with the coordinates of the points.
+	 *
+	 * @param xs
+	 *            the x coordinates
+	 * @param ys
+	 *            the y coordinates
+	 * @param random
+	 *            the random generator
+	 */
+	abstract void fill(int[] xs, int[] ys, Random random);
+
+	/**
+	 * Generates the vertices of a strictly convex lattice polygon. Its edges
+	 * are all primitive vectors (with coprime coordinates) up to a length,
+	 * sorted by their angle. The set of these vectors is symmetric, so the
+	 * polygon is closed. Every vertex is a corner, because no two edges have
+	 * the same direction. If there are more vertices than needed, evenly
+	 * spaced ones are taken, which are still in convex position.
+	 *
+	 * @param count
+	 *            the number of vertices
+	 * @return the x coordinates in array[0] and the y coordinates in
+	 *         array[1], centered around the origin
+	 */
+	private static long[][] convexPolygon(int count) {
+		List<int[]> edges = new ArrayList<int[]>();
+		int radius = Math.max(1, (int) Math.sqrt(count / 1.9));
+		while (edges.size() < Math.max(count, 4)) {
+			edges.clear();
+			for (int a = -radius; a <= radius; a++) {
+				for (int b = -radius; b <= radius; b++) {
+					if (a * a + b * b <= radius * radius && gcd(a, b) == 1) {
+						edges.add(new int[] { a, b });
+					}
+				}
+			}
+			radius++;
+		}
+		Collections.sort(edges, new Comparator<int[]>() {
+			@Override
+			public int compare(int[] first, int[] second) {
+				return Double.compare(Math.atan2(first[1], first[0]),
+						Math.atan2(second[1], second[0]));
+			}
+		});
+
+		int total = edges.size();
+		long[] allX = new long[total];
+		long[] allY = new long[total];
+		long minX = 0, maxX = 0, minY = 0, maxY = 0;
+		for (int i = 1; i < total; i++) {
+			allX[i] = allX[i - 1] + edges.get(i - 1)[0];
+			allY[i] = allY[i - 1] + edges.get(i - 1)[1];
+			minX = Math.min(minX, allX[i]);
+			maxX = Math.max(maxX, allX[i]);
+			minY = Math.min(minY, allY[i]);
+			maxY = Math.max(maxY, allY[i]);
+		}
+		long centerX = (minX + maxX) / 2;
+		long centerY = (minY + maxY) / 2;
+
+		long[][] polygon = new long[2][count];
+		for (int i = 0; i < count; i++) {
+			int vertex = (int) ((long) i * total / count);
+			polygon[0][i] = allX[vertex] - centerX;
+			polygon[1][i] = allY[vertex] - centerY;
+		}
+		return polygon;
+	}
+
+	/**
+	 * The greatest common divisor of the absolute values of two ints.
+	 *
+	 * @param a
+	 *            the first int
+	 * @param b
+	 *            the second int
+	 * @return the greatest common divisor
+	 */
+	private static int gcd(int a, int b) {
+		a = Math.abs(a);
+		b = Math.abs(b);
+		while (b != 0) {
+			int rest = a % b;
+			a = b;
+			b = rest;
+		}
+		return a;
+	}
+}
@@ -0,0 +1,94 @@
+package convex.hull.calculator.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import convex.hull.calculator.algorithm.BinaryPointFile;
+import convex.hull.calculator.algorithm.HullCalculator;
+
+/**
+ * The Class FileLoadBenchmark. It measures
+ * <code>HullCalculator.addPointsFromFile(String)</code> with text and binary
+ * point files.
+ *
+ * @author Teodor Shaterov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileLoadBenchmark {
+
+	/** The number of points. */
+	@Param({ "1000", "10000", "100000", "1000000", "10000000" })
+	private int size;
+
+	/** The distribution of the points. */
+	@Param({ "UNIFORM", "DISK", "CIRCLE", "GAUSSIAN" })
+	private Distribution distribution;
+
+	/** The format of the file, "text" or "binary". */
+	@Param({ "text", "binary" })
+	private String format;
+
+	/** The point file. */
+	private Path file;
+
+	/**
+	 * Writes the points to a temporary file.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Setup
+	public void setUp() throws IOException {
+		int[][] points = distribution.generate(size);
+		HullCalculator calculator = new HullCalculator();
+		calculator.addPoints(points[0], points[1], 0, size);
+		file = Files.createTempFile("points", "binary".equals(format)
+				? BinaryPointFile.EXTENSION : ".txt");
+		calculator.writePointsToFile(file.toString());
+	}
+
+	/**
+	 * Deletes the temporary file.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	/**
+	 * Loads all points of the file into a new calculator.
+	 *
+	 * @return the calculator
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Benchmark
+	public HullCalculator addPointsFromFile() throws IOException {
+		HullCalculator calculator = new HullCalculator();
+		calculator.addPointsFromFile(file.toString());
+		return calculator;
+	}
+}
@@ -0,0 +1,70 @@
+package convex.hull.calculator.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import convex.hull.calculator.algorithm.HullAlgorithm;
+import convex.hull.calculator.algorithm.HullCalculator;
+
+/**
+ * The Class HullBenchmark. It measures
+ * <code>HullCalculator.computeConvexHull()</code> with every batch algorithm.
+ *
+ * @author Teodor Shaterov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HullBenchmark {
+
+	/** The number of points. */
+	@Param({ "1000", "10000", "100000", "1000000", "10000000" })
+	private int size;
+
+	/** The distribution of the points. */
+	@Param({ "UNIFORM", "DISK", "CIRCLE", "GAUSSIAN" })
+	private Distribution distribution;
+
+	/** The algorithm. */
+	@Param({ "MONOTONE_CHAIN", "PARALLEL_MONOTONE_CHAIN", "CHAN" })
+	private HullAlgorithm algorithm;
+
+	/** The calculator with all points. */
+	private HullCalculator calculator;
+
+	/**
+	 * Generates the points.
+	 */
+	@Setup
+	public void setUp() {
+		int[][] points = distribution.generate(size);
+		calculator = new HullCalculator();
+		calculator.setAlgorithm(algorithm);
+		calculator.addPoints(points[0], points[1], 0, size);
+	}
+
+	/**
+	 * Computes the convex hull.
+	 *
+	 * @return the number of eliminated points
+	 */
+	@Benchmark
+	public int computeConvexHull() {
+		calculator.computeConvexHull();
+		return calculator.getEliminatedPointCount();
+	}
+}
@@ -0,0 +1,93 @@
+package convex.hull.calculator.benchmarks;
+
+import java.awt.Point;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import convex.hull.calculator.algorithm.HullCalculator;
+
+/**
+ * The Class PointCloseEnoughBenchmark. It measures
+ * <code>HullCalculator.pointCloseEnough(int, int)</code>. Half of the queries
+ * are next to a point, the other half are random positions.
+ *
+ * @author Teodor Shaterov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointCloseEnoughBenchmark {
+
+	/** The number of queries, a power of two. */
+	private static final int QUERIES = 1024;
+
+	/** The number of points. */
+	@Param({ "1000", "10000", "100000", "1000000", "10000000" })
+	private int size;
+
+	/** The distribution of the points. */
+	@Param({ "UNIFORM", "DISK", "CIRCLE", "GAUSSIAN" })
+	private Distribution distribution;
+
+	/** The calculator with all points. */
+	private HullCalculator calculator;
+
+	/** The x coordinates of the queries. */
+	private final int[] queryX = new int[QUERIES];
+
+	/** The y coordinates of the queries. */
+	private final int[] queryY = new int[QUERIES];
+
+	/** The index of the next query. */
+	private int next = 0;
+
+	/**
+	 * Generates the points and the queries.
+	 */
+	@Setup
+	public void setUp() {
+		int[][] points = distribution.generate(size);
+		calculator = new HullCalculator();
+		calculator.addPoints(points[0], points[1], 0, size);
+		Random random = new Random(size);
+		for (int i = 0; i < QUERIES; i++) {
+			if (i % 2 == 0) {
+				int point = random.nextInt(size);
+				queryX[i] = points[0][point] + random.nextInt(5) - 2;
+				queryY[i] = points[1][point] + random.nextInt(5) - 2;
+			} else {
+				queryX[i] = random.nextInt(2 * Distribution.EXTENT + 1)
+						- Distribution.EXTENT;
+				queryY[i] = random.nextInt(2 * Distribution.EXTENT + 1)
+						- Distribution.EXTENT;
+			}
+		}
+	}
+
+	/**
+	 * Looks for a point next to the next query.
+	 *
+	 * @return the point, or null
+	 */
+	@Benchmark
+	public Point pointCloseEnough() {
+		int query = next;
+		next = (next + 1) & (QUERIES - 1);
+		return calculator.pointCloseEnough(queryX[query], queryY[query]);
+	}
+}
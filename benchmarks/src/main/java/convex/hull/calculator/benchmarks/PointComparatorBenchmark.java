@@ -0,0 +1,92 @@
+package convex.hull.calculator.benchmarks;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import convex.hull.calculator.algorithm.PackedPoint;
+import convex.hull.calculator.algorithm.PointComparator;
+import convex.hull.calculator.algorithm.PointSorter;
+
+/**
+ * The Class PointComparatorBenchmark. It measures the sorting of points with
+ * the <code>PointComparator</code> and, for comparison, the sorting of the
+ * same points as packed keys with the <code>PointSorter</code>.
+ *
+ * @author Teodor Shaterov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointComparatorBenchmark {
+
+	/** The number of points. */
+	@Param({ "1000", "10000", "100000", "1000000", "10000000" })
+	private int size;
+
+	/** The distribution of the points. */
+	@Param({ "UNIFORM", "DISK", "CIRCLE", "GAUSSIAN" })
+	private Distribution distribution;
+
+	/** The comparator. */
+	private final PointComparator comparator = new PointComparator();
+
+	/** The unsorted points. */
+	private Point[] points;
+
+	/** The unsorted packed points. */
+	private long[] keys;
+
+	/**
+	 * Generates the points.
+	 */
+	@Setup
+	public void setUp() {
+		int[][] coordinates = distribution.generate(size);
+		points = new Point[size];
+		keys = new long[size];
+		for (int i = 0; i < size; i++) {
+			points[i] = new Point(coordinates[0][i], coordinates[1][i]);
+			keys[i] = PackedPoint.pack(coordinates[0][i], coordinates[1][i]);
+		}
+	}
+
+	/**
+	 * Sorts a copy of the points with the point comparator.
+	 *
+	 * @return the sorted points
+	 */
+	@Benchmark
+	public Point[] sortWithComparator() {
+		Point[] sorted = points.clone();
+		Arrays.sort(sorted, comparator);
+		return sorted;
+	}
+
+	/**
+	 * Sorts a copy of the packed points with the point sorter.
+	 *
+	 * @return the sorted packed points
+	 */
+	@Benchmark
+	public long[] sortPackedKeys() {
+		long[] sorted = keys.clone();
+		PointSorter.sort(sorted, size);
+		return sorted;
+	}
+}
@@ -1,9 +1,27 @@
 package convex.hull.calculator;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.JMException;
+
+import convex.hull.calculator.algorithm.BatchHullService;
+import convex.hull.calculator.algorithm.BatchJob;
+import convex.hull.calculator.algorithm.BatchListener;
+import convex.hull.calculator.algorithm.BatchReport;
+import convex.hull.calculator.algorithm.BatchResult;
 import convex.hull.calculator.algorithm.HullCalculator;
 import convex.hull.calculator.algorithm.HullObservable;
+import convex.hull.calculator.algorithm.LoadStatistics;
+import convex.hull.calculator.algorithm.StreamingHull;
+import convex.hull.calculator.configuration.IConfigurationConstants;
 import convex.hull.calculator.gui.MainWindow;
-import de.feu.propra15.interfaces.IHullCalculator;
 import de.feu.propra15.tester.Tester;
 
 /**
@@ -18,18 +36,141 @@ public class Main {
 	 *
 	 * @param args
 	 *            if -t is given as an argument, the Tester class will execute
-	 *            tests over the program, else the User interface will start
+	 *            tests over the program, if -s is given, the convex hull of
+	 *            the points of the file given as second argument (or of the
+	 *            standard input) is computed block by block and printed, if
+	 *            -b is given, the convex hulls of all files and directories
+	 *            given as further arguments (or of the Tester data folder) are
+	 *            computed concurrently, else the User interface will start
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred while streaming
+	 *             the points.
+	 * @throws InterruptedException
+	 *             if the batch mode is interrupted
 	 */
-	public static void main(String[] args) {
+	public static void main(String[] args) throws IOException,
+			InterruptedException {
 		if (args.length > 0 && "-t".equals(args[0])) {
-			IHullCalculator calculator = new HullCalculator(false);
+			HullCalculator calculator = new HullCalculator() {
+				@Override
+				public void addPointsFromFile(String fileName)
+						throws IOException {
+					super.addPointsFromFile(fileName);
+					reportLoad(fileName, getLastLoadStatistics());
+				}
+			};
+			registerMetrics(calculator, "tester");
 			Tester tester = new Tester(args, calculator);
 			System.out.println(tester.test());
+		} else if (args.length > 0 && "-s".equals(args[0])) {
+			long start = System.nanoTime();
+			StreamingHull streamingHull = new StreamingHull();
+			String name;
+			if (args.length > 1 && !"-".equals(args[1])) {
+				name = args[1];
+				try (InputStream in = Files.newInputStream(Paths.get(name))) {
+					streamingHull.addAll(in);
+				}
+			} else {
+				name = "standard input";
+				streamingHull.addAll(System.in);
+			}
+			int[][] hull = streamingHull.getHull();
+			reportLoad(name, new LoadStatistics(streamingHull.getByteCount(),
+					streamingHull.getPointCount(), 1, System.nanoTime() - start));
+			StringBuilder builder = new StringBuilder();
+			for (int[] point : hull) {
+				builder.append(point[0]).append(' ').append(point[1])
+						.append('\n');
+			}
+			System.out.print(builder);
+		} else if (args.length > 0 && "-b".equals(args[0])) {
+			runBatch(args);
 		} else {
-			HullCalculator calculator = new HullCalculator(true);
+			HullCalculator calculator = new HullCalculator();
+			registerMetrics(calculator, "gui");
 			HullObservable observer = new HullObservable(calculator);
 			new MainWindow(calculator, observer);
 		}
 	}
 
+	/**
+	 * Prints how fast a point file was loaded. It is printed to the standard
+	 * error, so the results on the standard output stay unchanged.
+	 *
+	 * @param name
+	 *            the name of the file
+	 * @param statistics
+	 *            the statistics of the load, nothing is printed if null
+	 */
+	private static void reportLoad(String name, LoadStatistics statistics) {
+		if (statistics != null) {
+			System.err.println("Loaded " + name + ": " + statistics);
+		}
+	}
+
+	/**
+	 * Registers the metrics of a calculator as MXBean, so the timings of the
+	 * phases can be watched with a JMX client. The program works without
+	 * them, so a failed registration is only reported.
+	 *
+	 * @param calculator
+	 *            the calculator
+	 * @param name
+	 *            the name under which the metrics are registered
+	 */
+	private static void registerMetrics(HullCalculator calculator, String name) {
+		try {
+			calculator.getMetrics().registerMBean(name);
+		} catch (JMException e) {
+			System.err.println("Metrics not registered: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Computes the convex hulls of the point files given as arguments after
+	 * -b. A directory stands for all files in it. Every result is printed as
+	 * soon as it is finished, at the end the throughput is printed.
+	 *
+	 * @param args
+	 *            the arguments of the program
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred while a directory
+	 *             is listed.
+	 * @throws InterruptedException
+	 *             if the batch is interrupted
+	 */
+	private static void runBatch(String[] args) throws IOException,
+			InterruptedException {
+		List<Path> paths = new ArrayList<Path>();
+		for (int i = 1; i < args.length; i++) {
+			paths.add(Paths.get(args[i]));
+		}
+		if (paths.isEmpty()) {
+			paths.add(Paths.get(new File(System
+					.getProperty(IConfigurationConstants.USER_DIR))
+					.getParentFile().getAbsolutePath()
+					+ IConfigurationConstants.TESTER_FOLDER));
+		}
+		List<BatchJob> jobs = new ArrayList<BatchJob>();
+		for (Path path : paths) {
+			if (Files.isDirectory(path)) {
+				jobs.addAll(BatchJob.ofDirectory(path));
+			} else {
+				jobs.add(BatchJob.ofFile(path));
+			}
+		}
+		BatchHullService service = new BatchHullService();
+		try {
+			BatchReport report = service.run(jobs, new BatchListener() {
+				@Override
+				public void hullComputed(BatchResult result) {
+					System.out.println(result);
+				}
+			});
+			System.out.println(report);
+		} finally {
+			service.shutdown();
+		}
+	}
 }
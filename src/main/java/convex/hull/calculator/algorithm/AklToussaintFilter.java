@@ -0,0 +1,177 @@
+package convex.hull.calculator.algorithm;
+
+/**
+ * The Class AklToussaintFilter. It implements the Akl-Toussaint heuristic:
+ * the extreme points of a set in the directions x, y, x + y and x - y are
+ * forming an octagon which lies inside the convex hull. All points which are
+ * strictly inside this octagon can not be a part of the convex hull, so they
+ * are dropped before the points are sorted.
+ *
+ * @author Teodor Shaterov
+ */
+public final class AklToussaintFilter {
+
+	/** The number of the octagon vertices. */
+	private static final int OCTAGON_SIZE = 8;
+
+	/**
+	 * A private constructor used to show that the class is a Utils one.
+	 */
+	private AklToussaintFilter() {
+	}
+
+	/**
+	 * Filters the first <code>size</code> points and writes the packed
+	 * coordinates (see <code>PackedPoint</code>) of all points which are not
+	 * strictly inside the octagon to <code>survivors</code>.
+	 *
+	 * @param xs
+	 *            the x coordinates
+	 * @param ys
+	 *            the y coordinates
+	 * @param size
+	 *            the number of points
+	 * @param survivors
+	 *            the array for the remaining points, with at least
+	 *            <code>size</code> entries
+	 * @return the number of the remaining points
+	 */
+	public static int filter(int[] xs, int[] ys, int size, long[] survivors) {
+		return filter(xs, ys, 0, size, survivors);
+	}
+
+	/**
+	 * Filters the points with indices from <code>from</code> (inclusive) to
+	 * <code>to</code> (exclusive) and writes the packed coordinates of all
+	 * points which are not strictly inside the octagon of this range to
+	 * <code>survivors</code>, starting at index 0.
+	 *
+	 * @param xs
+	 *            the x coordinates
+	 * @param ys
+	 *            the y coordinates
+	 * @param from
+	 *            the first index of the range
+	 * @param to
+	 *            the index after the last one of the range
+	 * @param survivors
+	 *            the array for the remaining points, with at least
+	 *            <code>to - from</code> entries
+	 * @return the number of the remaining points
+	 */
+	public static int filter(int[] xs, int[] ys, int from, int to,
+			long[] survivors) {
+		if (to - from < 3) {
+			return copyAll(xs, ys, from, to, survivors);
+		}
+		int[] octagon = findOctagon(xs, ys, from, to);
+		int[] edgeX = new int[OCTAGON_SIZE];
+		int[] edgeY = new int[OCTAGON_SIZE];
+		long[] edgeDX = new long[OCTAGON_SIZE];
+		long[] edgeDY = new long[OCTAGON_SIZE];
+		int edges = 0;
+		for (int i = 0; i < OCTAGON_SIZE; i++) {
+			int start = octagon[i];
+			int end = octagon[(i + 1) % OCTAGON_SIZE];
+			if (xs[start] != xs[end] || ys[start] != ys[end]) {
+				edgeX[edges] = xs[start];
+				edgeY[edges] = ys[start];
+				edgeDX[edges] = (long) xs[end] - xs[start];
+				edgeDY[edges] = (long) ys[end] - ys[start];
+				edges++;
+			}
+		}
+
+		if (edges < 3) {
+			return copyAll(xs, ys, from, to, survivors);
+		}
+
+		int count = 0;
+		for (int i = from; i < to; i++) {
+			int x = xs[i];
+			int y = ys[i];
+			boolean inside = true;
+			for (int e = 0; e < edges && inside; e++) {
+				inside = edgeDX[e] * ((long) y - edgeY[e]) - edgeDY[e]
+						* ((long) x - edgeX[e]) > 0;
+			}
+			if (!inside) {
+				survivors[count++] = PackedPoint.pack(x, y);
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Copies all points to <code>survivors</code> without filtering them.
+	 *
+	 * @param xs
+	 *            the x coordinates
+	 * @param ys
+	 *            the y coordinates
+	 * @param from
+	 *            the first index of the range
+	 * @param to
+	 *            the index after the last one of the range
+	 * @param survivors
+	 *            the array for the points
+	 * @return the number of the points
+	 */
+	private static int copyAll(int[] xs, int[] ys, int from, int to,
+			long[] survivors) {
+		for (int i = from; i < to; i++) {
+			survivors[i - from] = PackedPoint.pack(xs[i], ys[i]);
+		}
+		return to - from;
+	}
+
+	/**
+	 * Finds the indices of the extreme points in the order in which they are
+	 * lying on the convex hull: min y, max x - y, max x, max x + y, max y, min
+	 * x - y, min x, min x + y.
+	 *
+	 * @param xs
+	 *            the x coordinates
+	 * @param ys
+	 *            the y coordinates
+	 * @param from
+	 *            the first index of the range
+	 * @param to
+	 *            the index after the last one of the range
+	 * @return the indices of the octagon vertices
+	 */
+	private static int[] findOctagon(int[] xs, int[] ys, int from, int to) {
+		int minY = from, maxDiff = from, maxX = from, maxSum = from;
+		int maxY = from, minDiff = from, minX = from, minSum = from;
+		for (int i = from + 1; i < to; i++) {
+			long x = xs[i];
+			long y = ys[i];
+			if (y < ys[minY]) {
+				minY = i;
+			}
+			if (y > ys[maxY]) {
+				maxY = i;
+			}
+			if (x < xs[minX]) {
+				minX = i;
+			}
+			if (x > xs[maxX]) {
+				maxX = i;
+			}
+			if (x + y < (long) xs[minSum] + ys[minSum]) {
+				minSum = i;
+			}
+			if (x + y > (long) xs[maxSum] + ys[maxSum]) {
+				maxSum = i;
+			}
+			if (x - y < (long) xs[minDiff] - ys[minDiff]) {
+				minDiff = i;
+			}
+			if (x - y > (long) xs[maxDiff] - ys[maxDiff]) {
+				maxDiff = i;
+			}
+		}
+		return new int[] { minY, maxDiff, maxX, maxSum, maxY, minDiff, minX,
+				minSum };
+	}
+}
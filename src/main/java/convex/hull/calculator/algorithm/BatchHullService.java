@@ -0,0 +1,142 @@
+package convex.hull.calculator.algorithm;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The Class BatchHullService. It computes the convex hulls of many
+ * independent point sets (see <code>BatchJob</code>) on a work-stealing
+ * <code>ForkJoinPool</code>. Every set is loaded into its own
+ * <code>PointStore</code> and its hull is computed with the Akl-Toussaint
+ * filter and the monotone chain, so the result is the same as the one of
+ * <code>HullCalculator.getConvexHull()</code>. The results are delivered to a
+ * <code>BatchListener</code> as soon as they are finished.
+ *
+ * @author Teodor Shaterov
+ */
+public class BatchHullService {
+
+	/** The pool on which the hulls are computed. */
+	private final ForkJoinPool pool;
+
+	/**
+	 * Instantiates a new batch hull service with as many threads as available
+	 * processors.
+	 */
+	public BatchHullService() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Instantiates a new batch hull service.
+	 *
+	 * @param parallelism
+	 *            the number of threads
+	 */
+	public BatchHullService(int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be positive: "
+					+ parallelism);
+		}
+		this.pool = new ForkJoinPool(parallelism);
+	}
+
+	/**
+	 * Gets the number of threads.
+	 *
+	 * @return the parallelism
+	 */
+	public int getParallelism() {
+		return pool.getParallelism();
+	}
+
+	/**
+	 * Computes the convex hulls of all jobs. The method returns when all jobs
+	 * are finished. A job which fails does not stop the other ones, its error
+	 * is delivered in its result.
+	 *
+	 * @param jobs
+	 *            the jobs
+	 * @param listener
+	 *            the listener which gets the results in the order in which
+	 *            they are finished, on the calling thread
+	 * @return the report of the whole batch
+	 * @throws InterruptedException
+	 *             if the calling thread is interrupted while waiting
+	 */
+	public BatchReport run(List<BatchJob> jobs, BatchListener listener)
+			throws InterruptedException {
+		long start = System.nanoTime();
+		CompletionService<BatchResult> completion = new ExecutorCompletionService<BatchResult>(
+				pool);
+		for (final BatchJob job : jobs) {
+			completion.submit(new Callable<BatchResult>() {
+				@Override
+				public BatchResult call() {
+					return compute(job);
+				}
+			});
+		}
+		int failedSets = 0;
+		long points = 0;
+		for (int i = 0; i < jobs.size(); i++) {
+			BatchResult result;
+			try {
+				result = completion.take().get();
+			} catch (ExecutionException e) {
+				throw new IllegalStateException(e.getCause());
+			}
+			if (result.isSuccessful()) {
+				points += result.getPointCount();
+			} else {
+				failedSets++;
+			}
+			listener.hullComputed(result);
+		}
+		return new BatchReport(jobs.size(), failedSets, points,
+				getParallelism(), System.nanoTime() - start);
+	}
+
+	/**
+	 * Shuts the pool of the service down. The service can not be used after
+	 * that.
+	 */
+	public void shutdown() {
+		pool.shutdown();
+	}
+
+	/**
+	 * Loads the points of a job and computes their convex hull.
+	 *
+	 * @param job
+	 *            the job
+	 * @return the result
+	 */
+	private static BatchResult compute(BatchJob job) {
+		long start = System.nanoTime();
+		PointStore points = new PointStore();
+		LoadStatistics load;
+		try {
+			long bytes = job.load(points);
+			load = new LoadStatistics(bytes, points.size(), 1,
+					System.nanoTime() - start);
+		} catch (Exception e) {
+			return new BatchResult(job.getName(), points.size(), null, null,
+					e, System.nanoTime() - start);
+		}
+		int size = points.size();
+		long[] hull = MonotoneChain.computeHull(points.xArray(),
+				points.yArray(), 0, size);
+		int[][] array = new int[hull.length][2];
+		for (int i = 0; i < hull.length; i++) {
+			array[i][0] = PackedPoint.x(hull[i]);
+			array[i][1] = PackedPoint.y(hull[i]);
+		}
+		return new BatchResult(job.getName(), size, array, load, null,
+				System.nanoTime() - start);
+	}
+}
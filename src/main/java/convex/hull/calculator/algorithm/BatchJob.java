@@ -0,0 +1,155 @@
+package convex.hull.calculator.algorithm;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The Class BatchJob. It is one point set of a batch for the
+ * <code>BatchHullService</code>. The points are read from a point file (text
+ * or binary) or copied from memory, when the job is executed.
+ *
+ * @author Teodor Shaterov
+ */
+public abstract class BatchJob {
+
+	/** The name of the point set. */
+	private final String name;
+
+	/**
+	 * Instantiates a new batch job.
+	 *
+	 * @param name
+	 *            the name of the point set
+	 */
+	protected BatchJob(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Gets the name of the point set.
+	 *
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Adds the points of the set to a store.
+	 *
+	 * @param target
+	 *            the store where the points are added
+	 * @return the number of bytes which were read
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	protected abstract long load(PointStore target) throws IOException;
+
+	/**
+	 * Creates a job for a point file. The format of the file is detected
+	 * automatically.
+	 *
+	 * @param path
+	 *            the path of the file
+	 * @return the job
+	 */
+	public static BatchJob ofFile(final Path path) {
+		return new BatchJob(path.toString()) {
+			@Override
+			protected long load(PointStore target) throws IOException {
+				if (BinaryPointFile.isBinary(path)) {
+					BinaryPointFile.read(path, target, null);
+				} else {
+					PointFileParser.read(path, target);
+				}
+				return Files.size(path);
+			}
+		};
+	}
+
+	/**
+	 * Creates jobs for all regular files of a directory, sorted by their
+	 * names.
+	 *
+	 * @param directory
+	 *            the directory
+	 * @return the jobs
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static List<BatchJob> ofDirectory(Path directory)
+			throws IOException {
+		List<Path> files = new ArrayList<Path>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+			for (Path file : stream) {
+				if (Files.isRegularFile(file)) {
+					files.add(file);
+				}
+			}
+		}
+		Collections.sort(files);
+		List<BatchJob> jobs = new ArrayList<BatchJob>();
+		for (Path file : files) {
+			jobs.add(ofFile(file));
+		}
+		return jobs;
+	}
+
+	/**
+	 * Creates a job for points in two arrays, one with the x and one with the
+	 * y coordinates. The arrays are not copied, so they must not be changed
+	 * until the job is finished.
+	 *
+	 * @param name
+	 *            the name of the point set
+	 * @param xs
+	 *            the x coordinates
+	 * @param ys
+	 *            the y coordinates
+	 * @param offset
+	 *            the index of the first point in the arrays
+	 * @param length
+	 *            the number of points
+	 * @return the job
+	 */
+	public static BatchJob ofPoints(String name, final int[] xs,
+			final int[] ys, final int offset, final int length) {
+		return new BatchJob(name) {
+			@Override
+			protected long load(PointStore target) {
+				target.addAll(xs, ys, offset, length);
+				return 2L * Integer.BYTES * length;
+			}
+		};
+	}
+
+	/**
+	 * Creates a job for the remaining points of a buffer, where every x
+	 * coordinate is followed by its y coordinate. The position of the buffer
+	 * is not changed.
+	 *
+	 * @param name
+	 *            the name of the point set
+	 * @param interleaved
+	 *            the buffer with the coordinates
+	 * @return the job
+	 */
+	public static BatchJob ofBuffer(String name, IntBuffer interleaved) {
+		final IntBuffer buffer = interleaved.duplicate();
+		return new BatchJob(name) {
+			@Override
+			protected long load(PointStore target) {
+				IntBuffer points = buffer.duplicate();
+				long bytes = (long) Integer.BYTES * points.remaining();
+				target.addAllInterleaved(points);
+				return bytes;
+			}
+		};
+	}
+}
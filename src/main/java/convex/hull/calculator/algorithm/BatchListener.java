@@ -0,0 +1,19 @@
+package convex.hull.calculator.algorithm;
+
+/**
+ * The listener interface for receiving the results of a batch run of the
+ * <code>BatchHullService</code>. The results are delivered in the order in
+ * which the jobs are finished, on the thread which started the run.
+ *
+ * @author Teodor Shaterov
+ */
+public interface BatchListener {
+
+	/**
+	 * Called when the hull of a point set is computed or the job failed.
+	 *
+	 * @param result
+	 *            the result of the job
+	 */
+	void hullComputed(BatchResult result);
+}
@@ -0,0 +1,127 @@
+package convex.hull.calculator.algorithm;
+
+/**
+ * The Class BatchReport. It describes how fast a batch of point sets was
+ * handled by the <code>BatchHullService</code>.
+ *
+ * @author Teodor Shaterov
+ */
+public class BatchReport {
+
+	/** The number of nanoseconds in one second. */
+	private static final double SECOND = 1000000000.0;
+
+	/** The number of point sets. */
+	private final int sets;
+
+	/** The number of point sets which failed. */
+	private final int failedSets;
+
+	/** The number of points of all successful sets. */
+	private final long points;
+
+	/** The number of threads which were used. */
+	private final int threads;
+
+	/** The time of the whole batch in nanoseconds. */
+	private final long nanos;
+
+	/**
+	 * Instantiates a new batch report.
+	 *
+	 * @param sets
+	 *            the number of point sets
+	 * @param failedSets
+	 *            the number of point sets which failed
+	 * @param points
+	 *            the number of points of all successful sets
+	 * @param threads
+	 *            the number of threads which were used
+	 * @param nanos
+	 *            the time of the whole batch in nanoseconds
+	 */
+	public BatchReport(int sets, int failedSets, long points, int threads,
+			long nanos) {
+		this.sets = sets;
+		this.failedSets = failedSets;
+		this.points = points;
+		this.threads = threads;
+		this.nanos = Math.max(nanos, 1);
+	}
+
+	/**
+	 * Gets the number of point sets.
+	 *
+	 * @return the sets
+	 */
+	public int getSets() {
+		return sets;
+	}
+
+	/**
+	 * Gets the number of point sets which failed.
+	 *
+	 * @return the failed sets
+	 */
+	public int getFailedSets() {
+		return failedSets;
+	}
+
+	/**
+	 * Gets the number of points of all successful sets.
+	 *
+	 * @return the points
+	 */
+	public long getPoints() {
+		return points;
+	}
+
+	/**
+	 * Gets the number of threads which were used.
+	 *
+	 * @return the threads
+	 */
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * Gets the time of the whole batch in nanoseconds.
+	 *
+	 * @return the nanoseconds
+	 */
+	public long getNanos() {
+		return nanos;
+	}
+
+	/**
+	 * Gets the number of point sets per second.
+	 *
+	 * @return the sets per second
+	 */
+	public double getSetsPerSecond() {
+		return sets / (nanos / SECOND);
+	}
+
+	/**
+	 * Gets the number of points per second.
+	 *
+	 * @return the points per second
+	 */
+	public double getPointsPerSecond() {
+		return points / (nanos / SECOND);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("%d sets (%d failed, %d points) with %d thread(s)"
+				+ " in %d ms: %.1f sets/s, %.0f points/s", sets, failedSets,
+				points, threads, nanos / 1000000, getSetsPerSecond(),
+				getPointsPerSecond());
+	}
+}
@@ -0,0 +1,136 @@
+package convex.hull.calculator.algorithm;
+
+/**
+ * The Class BatchResult. It is the result of one <code>BatchJob</code>: the
+ * convex hull of the point set, or the error which stopped the job.
+ *
+ * @author Teodor Shaterov
+ */
+public class BatchResult {
+
+	/** The name of the point set. */
+	private final String name;
+
+	/** The number of points of the set. */
+	private final int pointCount;
+
+	/** The convex hull, null if the job failed. */
+	private final int[][] hull;
+
+	/** The statistics of loading the points, null if the job failed. */
+	private final LoadStatistics loadStatistics;
+
+	/** The error, null if the job was successful. */
+	private final Exception error;
+
+	/** The time of the job in nanoseconds. */
+	private final long nanos;
+
+	/**
+	 * Instantiates a new batch result.
+	 *
+	 * @param name
+	 *            the name of the point set
+	 * @param pointCount
+	 *            the number of points of the set
+	 * @param hull
+	 *            the convex hull, null if the job failed
+	 * @param loadStatistics
+	 *            the statistics of loading the points, null if the job failed
+	 * @param error
+	 *            the error, null if the job was successful
+	 * @param nanos
+	 *            the time of the job in nanoseconds
+	 */
+	public BatchResult(String name, int pointCount, int[][] hull,
+			LoadStatistics loadStatistics, Exception error, long nanos) {
+		this.name = name;
+		this.pointCount = pointCount;
+		this.hull = hull;
+		this.loadStatistics = loadStatistics;
+		this.error = error;
+		this.nanos = nanos;
+	}
+
+	/**
+	 * Gets the name of the point set.
+	 *
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Gets the number of points of the set.
+	 *
+	 * @return the number of points
+	 */
+	public int getPointCount() {
+		return pointCount;
+	}
+
+	/**
+	 * Gets the convex hull in the same shape as
+	 * <code>HullCalculator.getConvexHull()</code>.
+	 *
+	 * @return the convex hull, null if the job failed
+	 */
+	public int[][] getHull() {
+		return hull;
+	}
+
+	/**
+	 * Gets the statistics of loading the points. Their time is part of the
+	 * time of the job.
+	 *
+	 * @return the statistics, null if the job failed
+	 */
+	public LoadStatistics getLoadStatistics() {
+		return loadStatistics;
+	}
+
+	/**
+	 * Gets the error which stopped the job.
+	 *
+	 * @return the error, null if the job was successful
+	 */
+	public Exception getError() {
+		return error;
+	}
+
+	/**
+	 * Checks if the job was successful.
+	 *
+	 * @return true, if the hull was computed
+	 */
+	public boolean isSuccessful() {
+		return error == null;
+	}
+
+	/**
+	 * Gets the time of the job in nanoseconds.
+	 *
+	 * @return the nanoseconds
+	 */
+	public long getNanos() {
+		return nanos;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		if (error != null) {
+			return String.format("%s: failed: %s", name, error);
+		}
+		return String.format("%s: %d points, %d hull points in %.3f ms"
+				+ " (loaded with %.1f MB/s, %.0f points/s)", name, pointCount,
+				hull.length, nanos / 1000000.0,
+				loadStatistics.getMegabytesPerSecond(),
+				loadStatistics.getPointsPerSecond());
+	}
+}
@@ -0,0 +1,321 @@
+package convex.hull.calculator.algorithm;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The Class BinaryPointFile. It reads and writes points in a compact binary
+ * format. All values are little-endian int32 values:
+ * <ul>
+ * <li>the magic number "CHPF" and the version of the format</li>
+ * <li>the number of points and the number of cached hull vertices</li>
+ * <li>the bounds of the points: min x, min y, max x and max y</li>
+ * <li>the block with the x coordinates and then the block with the y
+ * coordinates of all points</li>
+ * <li>optionally the x block and the y block of the cached convex hull</li>
+ * </ul>
+ * The blocks are memory-mapped in windows while they are read, so loading
+ * the file is close to a copy of the blocks into the <code>PointStore</code>
+ * and files bigger than 2 GB can be read, too. Before the points are added,
+ * every point is checked against the bounds of the header.
+ *
+ * @author Teodor Shaterov
+ */
+public final class BinaryPointFile {
+
+	/** The file extension used for binary point files. */
+	public static final String EXTENSION = ".chpf";
+
+	/** The magic number, the bytes "CHPF" read as little-endian int. */
+	public static final int MAGIC = 0x46504843;
+
+	/** The version of the format. */
+	public static final int VERSION = 1;
+
+	/** The size of the header in bytes. */
+	private static final int HEADER_SIZE = 32;
+
+	/** The number of points whose coordinates are mapped at once. */
+	private static final int WINDOW_POINTS = 1 << 26;
+
+	/**
+	 * The number of points which are copied at once, so they are still in
+	 * the cache when their bounds are checked.
+	 */
+	private static final int CHUNK_POINTS = 1 << 14;
+
+	/** The size of the buffer used while writing. */
+	private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+	/**
+	 * A private constructor used to show that the class is a Utils one.
+	 */
+	private BinaryPointFile() {
+	}
+
+	/**
+	 * Checks if a file starts with the header of a binary point file.
+	 *
+	 * @param path
+	 *            the path of the file
+	 * @return true, if it is a binary point file
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static boolean isBinary(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path,
+				StandardOpenOption.READ)) {
+			ByteBuffer header = ByteBuffer.allocate(8).order(
+					ByteOrder.LITTLE_ENDIAN);
+			while (header.hasRemaining()) {
+				if (channel.read(header) < 0) {
+					return false;
+				}
+			}
+			return header.getInt(0) == MAGIC && header.getInt(4) == VERSION;
+		}
+	}
+
+	/**
+	 * Reads all points of a binary point file and adds them to a store. If
+	 * the file contains a cached hull and <code>hull</code> is not null, the
+	 * hull is added to <code>hull</code>. Nothing is added, if the file is
+	 * not valid.
+	 *
+	 * @param path
+	 *            the path of the file
+	 * @param target
+	 *            the store where the points are added
+	 * @param hull
+	 *            the store where the cached hull is added, can be null
+	 * @return true, if a cached hull was read
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred, or the file is
+	 *             not a valid binary point file.
+	 */
+	public static boolean read(Path path, PointStore target, PointStore hull)
+			throws IOException {
+		try (FileChannel channel = FileChannel.open(path,
+				StandardOpenOption.READ)) {
+			long size = channel.size();
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(
+					ByteOrder.LITTLE_ENDIAN);
+			while (header.hasRemaining()) {
+				if (channel.read(header) < 0) {
+					throw new IOException("Not a binary point file: " + path);
+				}
+			}
+			if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+				throw new IOException("Not a binary point file: " + path);
+			}
+			int count = header.getInt(8);
+			int hullCount = header.getInt(12);
+			long needed = HEADER_SIZE + 8L * count + 8L * hullCount;
+			if (count < 0 || hullCount < 0 || size < needed) {
+				throw new IOException("Truncated binary point file: " + path);
+			}
+			int[] bounds = { header.getInt(16), header.getInt(20),
+					header.getInt(24), header.getInt(28) };
+			if (count > 0 && (bounds[0] > bounds[2] || bounds[1] > bounds[3])) {
+				throw new IOException("Invalid bounds in binary point file: "
+						+ path);
+			}
+			int before = target.size();
+			copyBlocks(channel, HEADER_SIZE, count, bounds, path, target);
+			if (hullCount == 0 || hull == null) {
+				return false;
+			}
+			try {
+				copyBlocks(channel, HEADER_SIZE + 8L * count, hullCount,
+						bounds, path, hull);
+			} catch (IOException e) {
+				target.truncate(before);
+				throw e;
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Writes points to a binary point file. If <code>hull</code> is not null,
+	 * it is written as cached hull after the points.
+	 *
+	 * @param path
+	 *            the path of the file
+	 * @param points
+	 *            the points
+	 * @param hull
+	 *            the convex hull of the points, can be null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static void write(Path path, PointStore points, PointStore hull)
+			throws IOException {
+		int count = points.size();
+		int hullCount = hull == null ? 0 : hull.size();
+		int[] xs = points.xArray();
+		int[] ys = points.yArray();
+		int minX = 0, minY = 0, maxX = 0, maxY = 0;
+		for (int i = 0; i < count; i++) {
+			if (i == 0 || xs[i] < minX) {
+				minX = xs[i];
+			}
+			if (i == 0 || ys[i] < minY) {
+				minY = ys[i];
+			}
+			if (i == 0 || xs[i] > maxX) {
+				maxX = xs[i];
+			}
+			if (i == 0 || ys[i] > maxY) {
+				maxY = ys[i];
+			}
+		}
+
+		try (FileChannel channel = FileChannel.open(path,
+				StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE)
+					.order(ByteOrder.LITTLE_ENDIAN);
+			buffer.putInt(MAGIC).putInt(VERSION).putInt(count)
+					.putInt(hullCount);
+			buffer.putInt(minX).putInt(minY).putInt(maxX).putInt(maxY);
+			writeBlock(channel, buffer, xs, count);
+			writeBlock(channel, buffer, ys, count);
+			if (hull != null) {
+				writeBlock(channel, buffer, hull.xArray(), hullCount);
+				writeBlock(channel, buffer, hull.yArray(), hullCount);
+			}
+			flush(channel, buffer);
+		}
+	}
+
+	/**
+	 * Adds all points of an x block and the following y block to a store.
+	 * The points are copied in small chunks and every chunk is checked to be
+	 * inside the bounds of the header right after it was copied, so the
+	 * file is read only once. If a point is outside of the bounds, the store
+	 * is truncated to its old size.
+	 *
+	 * @param channel
+	 *            the file channel
+	 * @param position
+	 *            the position of the x block in the file
+	 * @param count
+	 *            the number of points
+	 * @param bounds
+	 *            min x, min y, max x and max y
+	 * @param path
+	 *            the path of the file
+	 * @param target
+	 *            the store where the points are added
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred, or a point is
+	 *             outside of the bounds.
+	 */
+	private static void copyBlocks(FileChannel channel, long position,
+			int count, int[] bounds, Path path, PointStore target)
+			throws IOException {
+		int before = target.size();
+		target.ensureCapacity(before + count);
+		int length;
+		for (int first = 0; first < count; first += length) {
+			length = Math.min(WINDOW_POINTS, count - first);
+			IntBuffer xBlock = window(channel, position, first, length);
+			IntBuffer yBlock = window(channel, position + 4L * count, first,
+					length);
+			while (xBlock.hasRemaining()) {
+				int from = target.size();
+				target.addAll(xBlock, yBlock,
+						Math.min(CHUNK_POINTS, xBlock.remaining()));
+				int[] xs = target.xArray();
+				int[] ys = target.yArray();
+				for (int i = from; i < target.size(); i++) {
+					if (xs[i] < bounds[0] || ys[i] < bounds[1]
+							|| xs[i] > bounds[2] || ys[i] > bounds[3]) {
+						String point = xs[i] + " " + ys[i];
+						target.truncate(before);
+						throw new IOException("Point " + point
+								+ " outside of the bounds of binary point"
+								+ " file: " + path);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Maps a window of a block of ints.
+	 *
+	 * @param channel
+	 *            the file channel
+	 * @param position
+	 *            the position of the block in the file
+	 * @param first
+	 *            the index of the first int of the window in the block
+	 * @param length
+	 *            the number of ints
+	 * @return the window
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static IntBuffer window(FileChannel channel, long position,
+			int first, int length) throws IOException {
+		MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+				position + 4L * first, 4L * length);
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		return buffer.asIntBuffer();
+	}
+
+	/**
+	 * Writes a block of ints through a buffer.
+	 *
+	 * @param channel
+	 *            the file channel
+	 * @param buffer
+	 *            the buffer
+	 * @param values
+	 *            the values
+	 * @param length
+	 *            the number of values
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static void writeBlock(FileChannel channel, ByteBuffer buffer,
+			int[] values, int length) throws IOException {
+		int written = 0;
+		while (written < length) {
+			if (buffer.remaining() < 4) {
+				flush(channel, buffer);
+			}
+			int chunk = Math.min(length - written, buffer.remaining() / 4);
+			buffer.asIntBuffer().put(values, written, chunk);
+			buffer.position(buffer.position() + 4 * chunk);
+			written += chunk;
+		}
+	}
+
+	/**
+	 * Writes the content of the buffer to the file and clears the buffer.
+	 *
+	 * @param channel
+	 *            the file channel
+	 * @param buffer
+	 *            the buffer
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static void flush(FileChannel channel, ByteBuffer buffer)
+			throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+}
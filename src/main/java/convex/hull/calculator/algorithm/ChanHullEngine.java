@@ -0,0 +1,292 @@
+package convex.hull.calculator.algorithm;
+
+/**
+ * The Class ChanHullEngine. It computes the convex hull with Chan's output
+ * sensitive algorithm in O(n log h), where h is the number of hull vertices.
+ * The points are split into groups of m points and the hull of every group is
+ * computed with the monotone chain. Then a Jarvis march walks around the
+ * whole set, where the next hull vertex is found with a binary search for the
+ * tangent on every group hull. If the march needs more than m steps, m is
+ * squared and everything is repeated. At the end the monotone chain is run
+ * over the found vertices, so the result has the same order and handles the
+ * duplicate and collinear cases the same way as
+ * <code>MonotoneChain.computeHull</code>.
+ *
+ * @author Teodor Shaterov
+ */
+public final class ChanHullEngine {
+
+	/** Group hulls with at most this number of vertices are scanned linearly. */
+	private static final int LINEAR_SCAN_LIMIT = 16;
+
+	/**
+	 * A private constructor used to show that the class is a Utils one.
+	 */
+	private ChanHullEngine() {
+	}
+
+	/**
+	 * Computes the convex hull of the first <code>size</code> packed points.
+	 * The order of the points in the array is changed.
+	 *
+	 * @param points
+	 *            the packed points
+	 * @param size
+	 *            the number of points
+	 * @return the packed points which are forming the convex hull
+	 */
+	public static long[] computeHull(long[] points, int size) {
+		if (size < 3) {
+			return MonotoneChain.sortAndComputeHull(points, size);
+		}
+		for (int t = 1;; t++) {
+			int groupSize = t >= 5 ? size : (int) Math.min(1L << (1 << t),
+					size);
+			long[][] groupHulls = computeGroupHulls(points, size, groupSize);
+			long[] vertices = jarvisMarch(groupHulls, groupSize);
+			if (vertices != null) {
+				long[] hull = MonotoneChain.sortAndComputeHull(vertices,
+						vertices.length);
+				return MonotoneChain.repeatSinglePoint(hull, size);
+			}
+		}
+	}
+
+	/**
+	 * Splits the points into groups and computes the hull of every group. The
+	 * group hulls are in counterclockwise order.
+	 *
+	 * @param points
+	 *            the packed points
+	 * @param size
+	 *            the number of points
+	 * @param groupSize
+	 *            the number of points in a group
+	 * @return the group hulls
+	 */
+	private static long[][] computeGroupHulls(long[] points, int size,
+			int groupSize) {
+		int groups = (size + groupSize - 1) / groupSize;
+		long[][] groupHulls = new long[groups][];
+		long[] group = new long[groupSize];
+		for (int g = 0; g < groups; g++) {
+			int from = g * groupSize;
+			int length = Math.min(groupSize, size - from);
+			System.arraycopy(points, from, group, 0, length);
+			long[] hull = MonotoneChain.sortAndComputeHull(group, length);
+			for (int i = 0, j = hull.length - 1; i < j; i++, j--) {
+				long swap = hull[i];
+				hull[i] = hull[j];
+				hull[j] = swap;
+			}
+			groupHulls[g] = hull;
+		}
+		return groupHulls;
+	}
+
+	/**
+	 * The Jarvis march over the group hulls. It starts with the smallest point
+	 * and wraps the set counterclockwise.
+	 *
+	 * @param groupHulls
+	 *            the group hulls
+	 * @param maxSteps
+	 *            the maximal number of hull vertices
+	 * @return the hull vertices, or null if there are more than
+	 *         <code>maxSteps</code> of them
+	 */
+	private static long[] jarvisMarch(long[][] groupHulls, int maxSteps) {
+		int currentGroup = 0;
+		int currentIndex = 0;
+		for (int g = 0; g < groupHulls.length; g++) {
+			for (int i = 0; i < groupHulls[g].length; i++) {
+				if (groupHulls[g][i] < groupHulls[currentGroup][currentIndex]) {
+					currentGroup = g;
+					currentIndex = i;
+				}
+			}
+		}
+		long start = groupHulls[currentGroup][currentIndex];
+
+		long[] vertices = new long[maxSteps];
+		int count = 0;
+		long current = start;
+		while (count < maxSteps) {
+			vertices[count++] = current;
+			int bestGroup = -1;
+			int bestIndex = -1;
+			for (int g = 0; g < groupHulls.length; g++) {
+				long[] hull = groupHulls[g];
+				int candidate;
+				if (g == currentGroup) {
+					candidate = (currentIndex + 1) % hull.length;
+				} else {
+					candidate = tangent(hull, current);
+				}
+				if (bestGroup < 0
+						|| isBetter(current,
+								groupHulls[bestGroup][bestIndex],
+								hull[candidate])) {
+					bestGroup = g;
+					bestIndex = candidate;
+				}
+			}
+			long next = groupHulls[bestGroup][bestIndex];
+			if (next == current || next == start) {
+				long[] result = new long[count];
+				System.arraycopy(vertices, 0, result, 0, count);
+				return result;
+			}
+			current = next;
+			currentGroup = bestGroup;
+			currentIndex = bestIndex;
+		}
+		return null;
+	}
+
+	/**
+	 * Finds the vertex of a counterclockwise group hull, so that the whole
+	 * group hull is on the left of the line from the point P to this vertex.
+	 * If more vertices are on the line, the farthest one is taken. A binary
+	 * search is used, if its result is not a tangent (for example if P is a
+	 * vertex of the group hull too), all vertices are scanned.
+	 *
+	 * @param hull
+	 *            the group hull
+	 * @param p
+	 *            the point P
+	 * @return the index of the tangent vertex
+	 */
+	private static int tangent(long[] hull, long p) {
+		int n = hull.length;
+		if (n > LINEAR_SCAN_LIMIT) {
+			int candidate = binarySearchTangent(hull, p);
+			if (candidate >= 0 && hull[candidate] != p) {
+				long q = hull[candidate];
+				long next = hull[(candidate + 1) % n];
+				long prev = hull[(candidate + n - 1) % n];
+				long turnNext = cross(p, q, next);
+				long turnPrev = cross(p, q, prev);
+				if (turnNext >= 0 && turnPrev >= 0) {
+					if (turnNext == 0 && distance(p, next) > distance(p, q)) {
+						return (candidate + 1) % n;
+					}
+					if (turnPrev == 0 && distance(p, prev) > distance(p, q)) {
+						return (candidate + n - 1) % n;
+					}
+					return candidate;
+				}
+			}
+		}
+		int best = 0;
+		for (int i = 1; i < n; i++) {
+			if (isBetter(p, hull[best], hull[i])) {
+				best = i;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Binary search for the tangent vertex of a counterclockwise convex
+	 * polygon from a point outside of it.
+	 *
+	 * @param hull
+	 *            the convex polygon
+	 * @param p
+	 *            the point P
+	 * @return the index of the tangent vertex or -1 if it is not found
+	 */
+	private static int binarySearchTangent(long[] hull, long p) {
+		int n = hull.length;
+		if (cross(p, hull[0], hull[1]) > 0
+				&& cross(p, hull[0], hull[n - 1]) >= 0) {
+			return 0;
+		}
+		int a = 0;
+		int b = n;
+		while (b - a > 1) {
+			int c = (a + b) >>> 1;
+			boolean downC = cross(p, hull[c], hull[(c + 1) % n]) > 0;
+			if (downC && cross(p, hull[c], hull[c - 1]) >= 0) {
+				return c;
+			}
+			boolean upA = cross(p, hull[a], hull[(a + 1) % n]) < 0;
+			if (upA) {
+				if (downC || cross(p, hull[a], hull[c]) > 0) {
+					b = c;
+				} else {
+					a = c;
+				}
+			} else {
+				if (downC && cross(p, hull[a], hull[c]) < 0) {
+					b = c;
+				} else {
+					a = c;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Checks if the point B is a better next hull vertex after P than the
+	 * point A: B is on the right of the line from P to A, or it is on the line
+	 * and farther from P.
+	 *
+	 * @param p
+	 *            the point P
+	 * @param a
+	 *            the point A
+	 * @param b
+	 *            the point B
+	 * @return true, if B is better than A
+	 */
+	private static boolean isBetter(long p, long a, long b) {
+		if (b == p) {
+			return false;
+		}
+		if (a == p) {
+			return true;
+		}
+		long turn = cross(p, a, b);
+		if (turn != 0) {
+			return turn < 0;
+		}
+		return distance(p, b) > distance(p, a);
+	}
+
+	/**
+	 * The cross product of the vectors OA and OB. It is positive if B is on
+	 * the left of the line from O to A.
+	 *
+	 * @param o
+	 *            the point O
+	 * @param a
+	 *            the point A
+	 * @param b
+	 *            the point B
+	 * @return the cross product
+	 */
+	private static long cross(long o, long a, long b) {
+		long ox = PackedPoint.x(o);
+		long oy = PackedPoint.y(o);
+		return (PackedPoint.x(a) - ox) * (PackedPoint.y(b) - oy)
+				- (PackedPoint.y(a) - oy) * (PackedPoint.x(b) - ox);
+	}
+
+	/**
+	 * The squared distance between the points A and B.
+	 *
+	 * @param a
+	 *            the point A
+	 * @param b
+	 *            the point B
+	 * @return the squared distance
+	 */
+	private static long distance(long a, long b) {
+		long dx = (long) PackedPoint.x(a) - PackedPoint.x(b);
+		long dy = (long) PackedPoint.y(a) - PackedPoint.y(b);
+		return dx * dx + dy * dy;
+	}
+}
@@ -0,0 +1,343 @@
+package convex.hull.calculator.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * The Class DragHull. It keeps the convex hull up to date while one point is
+ * dragged (see <code>HullCalculator.beginDrag(int)</code>). At the start of
+ * the drag, the hull of all other points is computed once and split into the
+ * two chains of the monotone chain algorithm: the first one from the
+ * smallest to the biggest packed point, the second one back. Both are fixed
+ * during the drag.
+ * <p>
+ * When the point is moved, it is inserted into both chains like the
+ * monotone chain would insert it: its position and the two tangents from it
+ * to the chain are found by binary searches, because the turns along a
+ * convex chain are monotone. The hull is then a splice of the chains around
+ * the point, which is read without copying. A move therefore takes O(log h)
+ * time for a hull with h points. The result is the same as the one of
+ * <code>MonotoneChain</code> over all points.
+ *
+ * @author Teodor Shaterov
+ */
+public class DragHull {
+
+	/** The index of the dragged point in the calculator. */
+	private final int index;
+
+	/** The hull of all other points, if it has less than three points. */
+	private final long[] smallHull;
+
+	/** The first chain of the hull of all other points, ascending. */
+	private final long[] firstChain;
+
+	/** The second chain of the hull of all other points, descending. */
+	private final long[] secondChain;
+
+	/** The splice of the dragged point into the first chain. */
+	private final Splice firstSplice = new Splice();
+
+	/** The splice of the dragged point into the second chain. */
+	private final Splice secondSplice = new Splice();
+
+	/** The hull of the small hull and the dragged point. */
+	private long[] smallResult = new long[0];
+
+	/** The dragged point, packed. */
+	private long point;
+
+	/** The modification count of the points when the point was moved. */
+	private long modCount;
+
+	/**
+	 * Instantiates a new drag hull.
+	 *
+	 * @param index
+	 *            the index of the dragged point
+	 * @param otherHull
+	 *            the hull of all other points in the order of
+	 *            <code>MonotoneChain</code>
+	 * @param x
+	 *            the x coordinate of the dragged point
+	 * @param y
+	 *            the y coordinate of the dragged point
+	 * @param modCount
+	 *            the modification count of the points
+	 */
+	DragHull(int index, long[] otherHull, int x, int y, long modCount) {
+		this.index = index;
+		if (otherHull.length < 3) {
+			smallHull = otherHull;
+			firstChain = null;
+			secondChain = null;
+		} else {
+			int max = 0;
+			for (int i = 1; i < otherHull.length; i++) {
+				if (otherHull[i] > otherHull[max]) {
+					max = i;
+				}
+			}
+			smallHull = null;
+			firstChain = Arrays.copyOf(otherHull, max + 1);
+			secondChain = Arrays.copyOfRange(otherHull, max,
+					otherHull.length + 1);
+			secondChain[secondChain.length - 1] = otherHull[0];
+		}
+		moveTo(x, y, modCount);
+	}
+
+	/**
+	 * Moves the dragged point and updates the hull.
+	 *
+	 * @param x
+	 *            the new x coordinate
+	 * @param y
+	 *            the new y coordinate
+	 * @param newModCount
+	 *            the modification count of the points after the move
+	 */
+	void moveTo(int x, int y, long newModCount) {
+		point = PackedPoint.pack(x, y);
+		modCount = newModCount;
+		if (smallHull != null) {
+			long[] points = Arrays.copyOf(smallHull, smallHull.length + 1);
+			points[smallHull.length] = point;
+			smallResult = MonotoneChain.sortAndComputeHull(points,
+					points.length);
+		} else {
+			firstSplice.insert(firstChain, true, point);
+			secondSplice.insert(secondChain, false, point);
+		}
+	}
+
+	/**
+	 * Gets the index of the dragged point.
+	 *
+	 * @return the index
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Gets the modification count of the points when the point was moved the
+	 * last time.
+	 *
+	 * @return the modification count
+	 */
+	public long getModificationCount() {
+		return modCount;
+	}
+
+	/**
+	 * Gets the number of points of the hull.
+	 *
+	 * @return the size of the hull
+	 */
+	public int size() {
+		if (smallHull != null) {
+			return smallResult.length;
+		}
+		return firstSplice.size() + secondSplice.size() - 2;
+	}
+
+	/**
+	 * Gets the x coordinate of a point of the hull.
+	 *
+	 * @param i
+	 *            the index of the point in the hull
+	 * @return the x coordinate
+	 */
+	public int getX(int i) {
+		return PackedPoint.x(get(i));
+	}
+
+	/**
+	 * Gets the y coordinate of a point of the hull.
+	 *
+	 * @param i
+	 *            the index of the point in the hull
+	 * @return the y coordinate
+	 */
+	public int getY(int i) {
+		return PackedPoint.y(get(i));
+	}
+
+	/**
+	 * Copies the hull to an array of packed points.
+	 *
+	 * @return the hull
+	 */
+	long[] toPackedArray() {
+		long[] hull = new long[size()];
+		for (int i = 0; i < hull.length; i++) {
+			hull[i] = get(i);
+		}
+		return hull;
+	}
+
+	/**
+	 * Gets a packed point of the hull. The hull is the first chain followed
+	 * by the inner points of the second one.
+	 *
+	 * @param i
+	 *            the index of the point in the hull
+	 * @return the packed point
+	 */
+	private long get(int i) {
+		if (smallHull != null) {
+			return smallResult[i];
+		}
+		int firstSize = firstSplice.size();
+		if (i < firstSize) {
+			return firstSplice.get(firstChain, point, i);
+		}
+		return secondSplice.get(secondChain, point, i - firstSize + 1);
+	}
+
+	/**
+	 * The Class Splice. It describes a chain after the dragged point is
+	 * inserted into it: the chain up to <code>left</code>, the point, if it
+	 * is on the chain, and the chain from <code>right</code>.
+	 */
+	private static final class Splice {
+
+		/** The last index of the chain before the point. */
+		private int left;
+
+		/** The first index of the chain after the point. */
+		private int right;
+
+		/** The number of points of the chain. */
+		private int length;
+
+		/** 1, if the point is on the chain, else 0. */
+		private int inserted;
+
+		/**
+		 * Inserts a point into a convex chain, where every three following
+		 * points are a right turn (see <code>MonotoneChain</code>).
+		 *
+		 * @param chain
+		 *            the chain
+		 * @param ascending
+		 *            true, if the chain is sorted ascending, false if it is
+		 *            sorted descending
+		 * @param q
+		 *            the packed point
+		 */
+		void insert(long[] chain, boolean ascending, long q) {
+			length = chain.length;
+			int position = position(chain, ascending, q);
+			if (position < length && chain[position] == q) {
+				keepChain();
+				return;
+			}
+			left = position - 1;
+			if (position > 0) {
+				// The last point before q which is not popped when q is
+				// pushed: the turns to q are right turns up to it
+				int low = 0;
+				int high = position - 1;
+				while (low < high) {
+					int middle = (low + high + 1) >>> 1;
+					if (MonotoneChain.onTheRight(chain[middle - 1],
+							chain[middle], q)) {
+						low = middle;
+					} else {
+						high = middle - 1;
+					}
+				}
+				left = low;
+			}
+			right = position;
+			if (position < length) {
+				// The first point after q which is not popped by the points
+				// after it
+				int low = position;
+				int high = length - 1;
+				while (low < high) {
+					int middle = (low + high) >>> 1;
+					if (MonotoneChain.onTheRight(q, chain[middle],
+							chain[middle + 1])) {
+						high = middle;
+					} else {
+						low = middle + 1;
+					}
+				}
+				right = low;
+			}
+			if (position > 0 && position < length
+					&& !MonotoneChain.onTheRight(chain[left], q, chain[right])) {
+				keepChain();
+				return;
+			}
+			inserted = 1;
+		}
+
+		/**
+		 * Keeps the chain as it is, because the point is not on it.
+		 */
+		private void keepChain() {
+			left = length - 1;
+			right = length;
+			inserted = 0;
+		}
+
+		/**
+		 * Gets the number of points of the spliced chain.
+		 *
+		 * @return the size
+		 */
+		int size() {
+			return left + 1 + inserted + length - right;
+		}
+
+		/**
+		 * Gets a point of the spliced chain.
+		 *
+		 * @param chain
+		 *            the chain
+		 * @param q
+		 *            the inserted point
+		 * @param i
+		 *            the index in the spliced chain
+		 * @return the packed point
+		 */
+		long get(long[] chain, long q, int i) {
+			if (i <= left) {
+				return chain[i];
+			}
+			if (inserted == 1 && i == left + 1) {
+				return q;
+			}
+			return chain[right + i - left - 1 - inserted];
+		}
+
+		/**
+		 * Finds the number of points of a sorted chain which are before a
+		 * point.
+		 *
+		 * @param chain
+		 *            the chain
+		 * @param ascending
+		 *            the order of the chain
+		 * @param q
+		 *            the packed point
+		 * @return the position of the point
+		 */
+		private static int position(long[] chain, boolean ascending, long q) {
+			int low = 0;
+			int high = chain.length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (ascending ? chain[middle] < q : chain[middle] > q) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package convex.hull.calculator.algorithm;
+
+/**
+ * The Enum HullAlgorithm. It contains all algorithms which can be used by the
+ * <code>HullCalculator</code> to compute the convex hull.
+ *
+ * @author Teodor Shaterov
+ */
+public enum HullAlgorithm {
+
+	/** The sequential monotone chain (see <code>MonotoneChain</code>). */
+	MONOTONE_CHAIN,
+
+	/**
+	 * The monotone chain computed in parallel on sub-hulls (see
+	 * <code>ParallelHullEngine</code>).
+	 */
+	PARALLEL_MONOTONE_CHAIN,
+
+	/**
+	 * Chan's output sensitive algorithm (see <code>ChanHullEngine</code>),
+	 * faster if only a few of the points are forming the convex hull.
+	 */
+	CHAN
+}
@@ -3,14 +3,26 @@ package convex.hull.calculator.algorithm;
 import java.awt.Point;
 import java.awt.geom.Arc2D;
 import java.io.IOException;
-import java.nio.charset.Charset;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
 
 import de.feu.propra15.interfaces.IHullCalculator;
 
@@ -31,16 +43,11 @@ public class HullCalculator implements IHullCalculator {
 	/** The Constant EMAIL. */
 	private static final String EMAIL = "teodor.shaterov@gmail.com";
 
-	/** The Constant ENCODING. */
-	private static final Charset ENCODING = StandardCharsets.ISO_8859_1;
-
 	/** The points which are forming the convex hull. */
-	private List<Point> convexHull = Collections
-			.synchronizedList(new ArrayList<Point>());
+	private final PointStore convexHull = new PointStore();
 
 	/** All points from the canvas. */
-	private List<Point> allPoints = Collections
-			.synchronizedList(new ArrayList<Point>());
+	private final PointStore allPoints = new PointStore();
 
 	/** The Constant O_POINT. */
 	private static final Point O_POINT = new Point(0, 0);
@@ -48,26 +55,113 @@ public class HullCalculator implements IHullCalculator {
 	/** The Constant E_POINT. */
 	private static final Point E_POINT = new Point(1, 0);
 
-	/** If UI is used or not. */
-	private final boolean isInterfaceUsed;
+	/**
+	 * The number of points which were dropped by the Akl-Toussaint filter
+	 * during the last computation of the convex hull.
+	 */
+	private int eliminatedPoints = 0;
+
+	/** The algorithm used to compute the convex hull. */
+	private HullAlgorithm algorithm;
+
+	/** The number of threads used by the parallel algorithm. */
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+
+	/** The sequential cutoff used by the parallel algorithm. */
+	private int sequentialCutoff = ParallelHullEngine.DEFAULT_SEQUENTIAL_CUTOFF;
+
+	/** The number of threads used to load point files. */
+	private int loaderThreads = Runtime.getRuntime().availableProcessors();
+
+	/** The statistics of the last loaded point file. */
+	private LoadStatistics lastLoadStatistics = null;
+
+	/** The parallel engine, created on the first use. */
+	private ParallelHullEngine parallelEngine = null;
+
+	/** The last result of <code>getConvexHull()</code>. */
+	private int[][] cachedHull = null;
+
+	/** The modification count of all points when the hull was cached. */
+	private long cachedModCount = -1;
 
-	/** All angles that should be drawn. */
-	private List<Arc2D.Double> angleHull = Collections
-			.synchronizedList(new ArrayList<Arc2D.Double>());
+	/** The grid index which finds the points near a position. */
+	private final PointGrid pointGrid = new PointGrid();
 
-	/** All angles used by the angle hull. */
+	/** The distance in pixels in which a point is found by a position. */
+	private static final int HIT_RADIUS = 5;
+
+	/** The timings and counters of the calculator. */
+	private final HullMetrics metrics;
+
+	/**
+	 * The check which tells that a computation is not needed anymore, null
+	 * if every computation runs to its end.
+	 */
+	private BooleanSupplier cancellation = null;
+
+	/**
+	 * All arcs of the angle hulls of the current alphas, null if they have to
+	 * be collected again.
+	 */
+	private List<Arc2D.Double> angleHull = null;
+
+	/** The angle hulls of the current convex hull, computed on demand. */
+	private final Map<Double, List<Arc2D.Double>> angleHulls = new HashMap<Double, List<Arc2D.Double>>();
+
+	/** The default angles used by the angle hull. */
 	private static final double[] anglesArray = { Math.toRadians(30),
 			Math.toRadians(45), Math.toRadians(60), Math.toRadians(75),
 			Math.toRadians(90), Math.toRadians(120), Math.toRadians(150) };
 
+	/** The angles of the angle hulls returned by <code>getArcs()</code>. */
+	private double[] alphas = anglesArray.clone();
+
 	/**
-	 * Instantiates a new hull calculator.
+	 * The number of convex hull vertices from which the angle hulls of
+	 * several alphas are computed in parallel.
+	 */
+	private static final int PARALLEL_ANGLE_HULL_THRESHOLD = 64;
+
+	/**
+	 * The difference of the squared cosines below which the angle compare
+	 * test does not trust the cosine comparison and compares the angles
+	 * themselves, as it was always done before.
+	 */
+	private static final double ANGLE_TIE_TOLERANCE = 1e-9;
+
+	/**
+	 * Instantiates a new hull calculator. The monotone chain is used to
+	 * compute the convex hull (see <code>setAlgorithm</code>).
+	 */
+	public HullCalculator() {
+		this(new HullMetrics());
+	}
+
+	/**
+	 * Instantiates a new hull calculator. The monotone chain is used to
+	 * compute the convex hull (see <code>setAlgorithm</code>).
 	 *
 	 * @param isInterfaceUsed
-	 *            is interface used
+	 *            ignored, the calculator works the same with and without the
+	 *            user interface
+	 * @deprecated use <code>HullCalculator()</code> instead
 	 */
+	@Deprecated
 	public HullCalculator(boolean isInterfaceUsed) {
-		this.isInterfaceUsed = isInterfaceUsed;
+		this();
+	}
+
+	/**
+	 * Instantiates a new hull calculator which records into given metrics,
+	 * for example into the ones of the calculator it computes for.
+	 *
+	 * @param metrics
+	 *            the metrics
+	 */
+	HullCalculator(HullMetrics metrics) {
+		this.algorithm = HullAlgorithm.MONOTONE_CHAIN;
+		this.metrics = metrics;
 	}
 
 	/**
@@ -81,7 +175,9 @@ public class HullCalculator implements IHullCalculator {
 	 */
 	@Override
 	public void addPoint(int x, int y) {
-		allPoints.add(new Point(x, y));
+		allPoints.add(x, y);
+		pointGrid.add(x, y, allPoints.getModificationCount());
+		metrics.addPointsIngested(1);
 	}
 
 	/**
@@ -94,15 +190,79 @@ public class HullCalculator implements IHullCalculator {
 	 */
 	@Override
 	public void addPointsFromArray(int[][] pointArray) {
+		long start = System.nanoTime();
+		allPoints.ensureCapacity(allPoints.size() + pointArray.length);
 		for (int i = 0; i < pointArray.length; i++) {
-			allPoints.add(new Point(pointArray[i][0], pointArray[i][1]));
+			allPoints.add(pointArray[i][0], pointArray[i][1]);
+		}
+		recordIngest(pointArray.length, start);
+	}
+
+	/**
+	 * Add points from two arrays, one with the x and one with the y
+	 * coordinates, to the set of all points. The coordinates are copied
+	 * directly into the point store.
+	 *
+	 * @param xs
+	 *            the x coordinates
+	 * @param ys
+	 *            the y coordinates
+	 * @param offset
+	 *            the index of the first point in the arrays
+	 * @param length
+	 *            the number of points
+	 */
+	public void addPoints(int[] xs, int[] ys, int offset, int length) {
+		long start = System.nanoTime();
+		allPoints.addAll(xs, ys, offset, length);
+		recordIngest(length, start);
+	}
+
+	/**
+	 * Add all remaining points of a buffer, where every x coordinate is
+	 * followed by its y coordinate, to the set of all points. The position of
+	 * the buffer is moved to its limit.
+	 *
+	 * @param interleaved
+	 *            the buffer with the coordinates
+	 */
+	public void addPoints(IntBuffer interleaved) {
+		long start = System.nanoTime();
+		int before = allPoints.size();
+		allPoints.addAllInterleaved(interleaved);
+		recordIngest(allPoints.size() - before, start);
+	}
+
+	/**
+	 * Add all remaining points of a byte buffer, which contains int values in
+	 * the byte order of the buffer and where every x coordinate is followed
+	 * by its y coordinate, to the set of all points. The position of the
+	 * buffer is moved to its limit.
+	 *
+	 * @param interleaved
+	 *            the buffer with the coordinates
+	 */
+	public void addPoints(ByteBuffer interleaved) {
+		int remaining = interleaved.remaining();
+		if (remaining % 8 != 0) {
+			throw new IllegalArgumentException(
+					"Incomplete point in the buffer: " + remaining + " bytes");
 		}
+		addPoints(interleaved.asIntBuffer());
+		interleaved.position(interleaved.limit());
 	}
 
 	/**
-	 * Add points from a file to the set of all points. All lines, which aren't
-	 * containing coordinates with the format "x y" delimited by a space, are
-	 * ignored
+	 * Add points from a file to the set of all points. The format of the file
+	 * is detected automatically. A binary point file (see
+	 * <code>BinaryPointFile</code>) is memory-mapped and its coordinate blocks
+	 * are copied into the point store. If the calculator was empty and the
+	 * file contains the cached convex hull, it is used until the points are
+	 * changed. In a text file all lines, which aren't containing coordinates
+	 * with the format "x y" delimited by a space, are ignored. The file is
+	 * memory-mapped and parsed directly into the point store (see
+	 * <code>PointFileParser</code>). Big files are split into ranges which are
+	 * parsed on several threads (see <code>ParallelPointFileLoader</code>).
 	 * 
 	 * @see de.feu.propra15.interfaces.IHullCalculator#addPointsFromFile(java.lang
 	 *      .String)
@@ -114,19 +274,191 @@ public class HullCalculator implements IHullCalculator {
 	 */
 	@Override
 	public void addPointsFromFile(String fileName) throws IOException {
+		long start = System.nanoTime();
+		int before = allPoints.size();
+		Path path = Paths.get(fileName);
+		if (BinaryPointFile.isBinary(path)) {
+			addPointsFromBinaryFile(path);
+		} else {
+			lastLoadStatistics = new ParallelPointFileLoader(loaderThreads)
+					.load(path, allPoints);
+		}
+		recordIngest(allPoints.size() - before, start);
+	}
+
+	/**
+	 * Replaces all points with the points of a store. The points are not
+	 * counted as ingested, because they were already counted by the
+	 * calculator they were copied from (see <code>copyPoints()</code>).
+	 *
+	 * @param points
+	 *            the new points
+	 */
+	void setPoints(PointStore points) {
+		clear();
+		allPoints.addAll(points);
+	}
+
+	/**
+	 * Sets the check which tells that a computation is not needed anymore.
+	 * It is asked between the phases of the convex hull and before the angle
+	 * hull of every alpha. If it returns true, the computation is given up
+	 * with a <code>CancellationException</code>.
+	 *
+	 * @param cancellation
+	 *            the check, or null if every computation runs to its end
+	 */
+	void setCancellation(BooleanSupplier cancellation) {
+		this.cancellation = cancellation;
+	}
+
+	/**
+	 * Gives the current computation up, if it is not needed anymore.
+	 *
+	 * @throws CancellationException
+	 *             if the computation is given up
+	 */
+	private void checkCancelled() {
+		if (cancellation != null && cancellation.getAsBoolean()) {
+			throw new CancellationException();
+		}
+	}
+
+	/**
+	 * Records the time of adding points and their number.
+	 *
+	 * @param points
+	 *            the number of added points
+	 * @param start
+	 *            the start time in nanoseconds
+	 */
+	private void recordIngest(int points, long start) {
+		metrics.record(HullPhase.INGEST, System.nanoTime() - start);
+		metrics.addPointsIngested(points);
+	}
+
+	/**
+	 * Adds the points from a binary point file. The cached hull of the file
+	 * is only used, if there were no points before.
+	 *
+	 * @param path
+	 *            the path of the file
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private void addPointsFromBinaryFile(Path path) throws IOException {
+		long start = System.nanoTime();
+		int before = allPoints.size();
+		PointStore fileHull = new PointStore();
+		boolean hasHull = BinaryPointFile.read(path, allPoints,
+				before == 0 ? fileHull : null);
+		lastLoadStatistics = new LoadStatistics(Files.size(path),
+				allPoints.size() - before, 1, System.nanoTime() - start);
+		if (hasHull) {
+			convexHull.clear();
+			convexHull.addAll(fileHull);
+			clearAngleHulls();
+			cachedHull = convexHull.toArray();
+			cachedModCount = allPoints.getModificationCount();
+			eliminatedPoints = 0;
+		}
+	}
+
+	/**
+	 * Writes all points to a file. If the name of the file ends with
+	 * <code>BinaryPointFile.EXTENSION</code>, the binary format is used and
+	 * the convex hull is stored with the points, else every point is written
+	 * as a line with the format "x y". The convex hull is computed if it is
+	 * not cached, so this should not be called on the event thread.
+	 *
+	 * @param fileName
+	 *            the name of the file
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public void writePointsToFile(String fileName) throws IOException {
+		if (isBinaryFileName(fileName)) {
+			getConvexHull();
+		}
+		writePointsToFile(fileName, null);
+	}
+
+	/**
+	 * Writes all points to a file without computing the convex hull. In the
+	 * binary format the cached convex hull is stored, or the hull of a
+	 * result if it was computed for the current points (see
+	 * <code>HullComputeScheduler</code>); if there is neither, the file is
+	 * written without a hull and it is computed when the file is loaded.
+	 *
+	 * @param fileName
+	 *            the name of the file
+	 * @param result
+	 *            the last result of a scheduler, can be null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public void writePointsToFile(String fileName, HullResult result)
+			throws IOException {
 		Path path = Paths.get(fileName);
-		List<String> points = Files.readAllLines(path, ENCODING);
-		for (String s : points) {
-			String[] tokens = s.split(" ");
-			if (tokens.length > 1) {
-				try {
-					addPoint(Integer.parseInt(tokens[0]),
-							Integer.parseInt(tokens[1]));
-				} catch (NumberFormatException nfe) {
-					// Ignore this point, it is not an Integer value
+		if (isBinaryFileName(fileName)) {
+			long modCount = allPoints.getModificationCount();
+			PointStore hull = null;
+			if (cachedHull != null && cachedModCount == modCount) {
+				hull = convexHull;
+			} else if (result != null
+					&& result.getModificationCount() == modCount) {
+				hull = new PointStore(result.getHullSize());
+				for (int i = 0; i < result.getHullSize(); i++) {
+					hull.add(result.getHullX(i), result.getHullY(i));
 				}
 			}
+			BinaryPointFile.write(path, allPoints, hull);
+			return;
+		}
+		int[] xs = allPoints.xArray();
+		int[] ys = allPoints.yArray();
+		try (Writer writer = Files.newBufferedWriter(path,
+				StandardCharsets.UTF_8)) {
+			for (int i = 0; i < allPoints.size(); i++) {
+				writer.write(xs[i] + " " + ys[i] + "\n");
+			}
+		}
+	}
+
+	/**
+	 * Checks if a file has to be written in the binary format.
+	 *
+	 * @param fileName
+	 *            the name of the file
+	 * @return true, if the name ends with
+	 *         <code>BinaryPointFile.EXTENSION</code>
+	 */
+	private static boolean isBinaryFileName(String fileName) {
+		return fileName.toLowerCase().endsWith(BinaryPointFile.EXTENSION);
+	}
+
+	/**
+	 * Gets the statistics of the last file loaded by
+	 * <code>addPointsFromFile</code>.
+	 *
+	 * @return the statistics, or null if no file was loaded yet
+	 */
+	public LoadStatistics getLastLoadStatistics() {
+		return lastLoadStatistics;
+	}
+
+	/**
+	 * Sets the number of threads used to load big point files.
+	 *
+	 * @param loaderThreads
+	 *            the number of threads
+	 */
+	public void setLoaderThreads(int loaderThreads) {
+		if (loaderThreads < 1) {
+			throw new IllegalArgumentException("Threads must be positive: "
+					+ loaderThreads);
 		}
+		this.loaderThreads = loaderThreads;
 	}
 
 	/**
@@ -139,14 +471,15 @@ public class HullCalculator implements IHullCalculator {
 	public void clear() {
 		allPoints.clear();
 		convexHull.clear();
-		angleHull.clear();
+		clearAngleHulls();
 	}
 
 	/**
-	 * It clears the convex and angle hulls at first, then computes them with
-	 * <code>computeConvexHull()</code> and
-	 * <code>computeAngleHull(double alpha)</code> methods and then puts the
-	 * result of the convex hull to an array.
+	 * It clears the convex and angle hulls at first, then computes the convex
+	 * hull with <code>computeConvexHull()</code> and then puts the result to
+	 * an array. If the points were not changed since the last call, the cached
+	 * array is reused. The angle hulls are not computed here, but on demand
+	 * by <code>getAngleHull(double alpha)</code> and <code>getArcs()</code>.
 	 * 
 	 * @see de.feu.propra15.interfaces.IHullCalculator#getConvexHull()
 	 * @return the int array with the coordinates of all points which are
@@ -154,94 +487,185 @@ public class HullCalculator implements IHullCalculator {
 	 */
 	@Override
 	public int[][] getConvexHull() {
+		long modCount = allPoints.getModificationCount();
+		if (cachedHull != null && modCount == cachedModCount) {
+			metrics.cacheHit();
+			return cachedHull;
+		}
+		metrics.cacheMiss();
 		convexHull.clear();
-		angleHull.clear();
+		clearAngleHulls();
 		computeConvexHull();
-		if (isInterfaceUsed) {
-			for (int i = 0; i < anglesArray.length; i++) {
-				computeAngleHull(anglesArray[i]);
-			}
-		}
-		int[][] convertedConvexHull = new int[convexHull.size()][2];
-		for (int i = 0; i < convexHull.size(); i++) {
-			convertedConvexHull[i][0] = convexHull.get(i).x;
-			convertedConvexHull[i][1] = convexHull.get(i).y;
-		}
-		return convertedConvexHull;
+		long start = System.nanoTime();
+		cachedHull = convexHull.toArray();
+		metrics.record(HullPhase.ARRAY_CONVERSION, System.nanoTime() - start);
+		cachedModCount = modCount;
+		return cachedHull;
+	}
+
+	/**
+	 * Gets the number of calls of <code>getConvexHull()</code> which reused
+	 * the cached hull, because the points were not changed.
+	 *
+	 * @return the number of cache hits
+	 */
+	public long getCacheHits() {
+		return metrics.getCacheHits();
+	}
+
+	/**
+	 * Gets the number of calls of <code>getConvexHull()</code> which had to
+	 * compute the hull again.
+	 *
+	 * @return the number of cache misses
+	 */
+	public long getCacheMisses() {
+		return metrics.getCacheMisses();
+	}
+
+	/**
+	 * Gets the timings of the phases and the counters of the calculator.
+	 *
+	 * @return the metrics
+	 */
+	public HullMetrics getMetrics() {
+		return metrics;
 	}
 
 	/**
 	 * The method which computes the convex hull from the given points. After
-	 * the execution of this method, the List convexHull is filled with the
+	 * the execution of this method, the store convexHull is filled with the
 	 * points which are forming the convex set. The algorithm computes the
 	 * convex hull after it divides the set of points to upper and lower hull
-	 * and then it iterates over the points and put the to the convex set.
+	 * and then it iterates over the points and put the to the convex set (see
+	 * <code>MonotoneChain</code>). The points are sorted as packed
+	 * <code>long</code> keys (see <code>PackedPoint</code> and
+	 * <code>PointSorter</code>), so no <code>Point</code> objects are created.
+	 * Before the sorting, all points which are lying strictly inside the
+	 * Akl-Toussaint octagon are dropped (see <code>AklToussaintFilter</code>).
+	 * The selected <code>HullAlgorithm</code> decides if this is done
+	 * sequentially, in parallel or with Chan's algorithm instead of the
+	 * sorting. The times of the phases are recorded in the metrics (see
+	 * <code>getMetrics()</code>).
 	 */
 	public void computeConvexHull() {
-		ArrayList<Point> sortedPoints = new ArrayList<Point>(allPoints);
-		int size = sortedPoints.size();
-
-		Collections.sort(sortedPoints, new PointComparator());
-		if (size < 3) {
-			if (size == 2 && sortedPoints.get(0).equals(sortedPoints.get(1))) {
-				convexHull.add(sortedPoints.get(0));
-				return;
+		long start = System.nanoTime();
+		int allSize = allPoints.size();
+		long[] hull;
+		if (algorithm == HullAlgorithm.PARALLEL_MONOTONE_CHAIN) {
+			ParallelHullEngine engine = getParallelEngine();
+			hull = engine.computeHull(allPoints.xArray(), allPoints.yArray(),
+					allSize);
+			eliminatedPoints = engine.getEliminatedPointCount();
+		} else {
+			long[] sortedPoints = new long[allSize];
+			int size = AklToussaintFilter.filter(allPoints.xArray(),
+					allPoints.yArray(), allSize, sortedPoints);
+			eliminatedPoints = allSize - size;
+			long filterEnd = System.nanoTime();
+			metrics.record(HullPhase.FILTER, filterEnd - start);
+			checkCancelled();
+			if (algorithm == HullAlgorithm.CHAN) {
+				hull = ChanHullEngine.computeHull(sortedPoints, size);
+			} else {
+				PointSorter.sort(sortedPoints, size);
+				metrics.record(HullPhase.SORT, System.nanoTime() - filterEnd);
+				checkCancelled();
+				hull = MonotoneChain.computeHull(sortedPoints, size, metrics);
 			}
-			convexHull = sortedPoints;
-			return;
 		}
+		checkCancelled();
+		long hullEnd = System.nanoTime();
+		metrics.record(HullPhase.HULL, hullEnd - start);
+		metrics.recordHull(allSize, eliminatedPoints, hull.length);
 
-		Point[] upperHull = new Point[size];
-		Point[] lowerHull = new Point[size];
+		convexHull.clear();
+		convexHull.ensureCapacity(hull.length);
+		for (int i = 0; i < hull.length; i++) {
+			convexHull.add(PackedPoint.x(hull[i]), PackedPoint.y(hull[i]));
+		}
+		metrics.record(HullPhase.CONVERSION, System.nanoTime() - hullEnd);
+	}
 
-		upperHull[0] = sortedPoints.get(0);
-		upperHull[1] = sortedPoints.get(1);
-		int upperSize = 2;
+	/**
+	 * Gets the number of points which were dropped by the Akl-Toussaint
+	 * filter during the last computation of the convex hull, because they are
+	 * lying inside the hull.
+	 *
+	 * @return the number of the eliminated points
+	 */
+	public int getEliminatedPointCount() {
+		return eliminatedPoints;
+	}
 
-		lowerHull[0] = sortedPoints.get(size - 1);
-		lowerHull[1] = sortedPoints.get(size - 2);
-		int lowerSize = 2;
+	/**
+	 * Gets the algorithm which is used to compute the convex hull.
+	 *
+	 * @return the algorithm
+	 */
+	public HullAlgorithm getAlgorithm() {
+		return algorithm;
+	}
 
-		for (int i = 2; i < size; i++) {
-			upperSize = fillHullHalf(sortedPoints, upperHull, upperSize, i);
-		}
+	/**
+	 * Sets the algorithm which is used to compute the convex hull.
+	 *
+	 * @param algorithm
+	 *            the new algorithm
+	 */
+	public void setAlgorithm(HullAlgorithm algorithm) {
+		this.algorithm = algorithm;
+	}
 
-		for (int i = size - 3; i >= 0; i--) {
-			lowerSize = fillHullHalf(sortedPoints, lowerHull, lowerSize, i);
+	/**
+	 * Sets the number of threads used by the parallel algorithm.
+	 *
+	 * @param parallelism
+	 *            the number of threads
+	 */
+	public void setParallelism(int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be positive: "
+					+ parallelism);
 		}
+		this.parallelism = parallelism;
+		resetParallelEngine();
+	}
 
-		for (int i = 0; i < upperSize; i++) {
-			convexHull.add(upperHull[i]);
-		}
+	/**
+	 * Sets the number of points up to which the parallel algorithm computes a
+	 * chunk sequentially instead of splitting it.
+	 *
+	 * @param sequentialCutoff
+	 *            the sequential cutoff
+	 */
+	public void setSequentialCutoff(int sequentialCutoff) {
+		this.sequentialCutoff = sequentialCutoff;
+		resetParallelEngine();
+	}
 
-		for (int i = 1; i < lowerSize - 1; i++) {
-			convexHull.add(lowerHull[i]);
+	/**
+	 * Gets the parallel engine. It is created on the first use.
+	 *
+	 * @return the parallel engine
+	 */
+	private ParallelHullEngine getParallelEngine() {
+		if (parallelEngine == null) {
+			parallelEngine = new ParallelHullEngine(parallelism,
+					sequentialCutoff);
 		}
+		return parallelEngine;
 	}
 
 	/**
-	 * Fills the upper or lower half of the convex hull.
-	 *
-	 * @param sortedPoints
-	 *            ArrayList with all points sorted by their X coordinates.
-	 * @param hull
-	 *            the hull half which would be filled
-	 * @param size
-	 *            the size
-	 * @param i
-	 *            the index of the sorted points
-	 * @return the size
+	 * Shuts the current parallel engine down, so that a new one is created
+	 * with the new settings on the next use.
 	 */
-	private int fillHullHalf(ArrayList<Point> sortedPoints, Point[] hull,
-			int size, int i) {
-		hull[size] = sortedPoints.get(i);
-		size++;
-		while (size > 2
-				&& !onTheRight(hull[size - 3], hull[size - 2], hull[size - 1])) {
-			hull[size - 2] = hull[size - 1];
-			size--;
+	private void resetParallelEngine() {
+		if (parallelEngine != null) {
+			parallelEngine.shutdown();
+			parallelEngine = null;
 		}
-		return size;
 	}
 
 	/**
@@ -277,52 +701,268 @@ public class HullCalculator implements IHullCalculator {
 	}
 
 	/**
-	 * Returns the array with all points from the canvas.
+	 * Returns a read-only view of all points from the canvas. The points of
+	 * the view are copies, changing them does not change the calculator.
 	 *
 	 * @return the points array
 	 */
 	public List<Point> getPoints() {
-		return allPoints;
+		return allPoints.asList();
 	}
 
 	/**
-	 * Checks if a point is on the right or on the left to a given line between
-	 * 2 points.
+	 * Gets the number of all points.
 	 *
-	 * @param a
-	 *            point A
-	 * @param b
-	 *            point B
-	 * @param c
-	 *            point C
-	 * @return true, if C is on the right to the line between A and B
+	 * @return the number of points
+	 */
+	public int getPointCount() {
+		return allPoints.size();
+	}
+
+	/**
+	 * Gets the x coordinate of a point without creating a <code>Point</code>.
+	 *
+	 * @param index
+	 *            the index of the point in the store
+	 * @return the x coordinate
+	 */
+	public int getPointX(int index) {
+		return allPoints.getX(index);
+	}
+
+	/**
+	 * Gets the y coordinate of a point without creating a <code>Point</code>.
+	 *
+	 * @param index
+	 *            the index of the point in the store
+	 * @return the y coordinate
+	 */
+	public int getPointY(int index) {
+		return allPoints.getY(index);
+	}
+
+	/**
+	 * Copies all points to a new store, for example to compute their hull on
+	 * another thread.
+	 *
+	 * @return the copy of the points
 	 */
-	private boolean onTheRight(Point a, Point b, Point c) {
-		return (long) (c.getX() - a.getX()) * (long) (c.getY() + a.getY())
-				+ (long) (b.getX() - c.getX()) * (long) (b.getY() + c.getY())
-				+ (long) (a.getX() - b.getX()) * (long) (a.getY() + b.getY()) < 0;
+	PointStore copyPoints() {
+		PointStore copy = new PointStore(allPoints.size());
+		copy.addAll(allPoints);
+		return copy;
 	}
 
 	/**
-	 * Removes the point from the ArrayList where all points are stored.
+	 * Gets the modification count of all points. It is increased by one for
+	 * every operation on the store of the points: for a single point which is
+	 * added, removed or changed, but also for a block of points which is
+	 * added at once and for clearing all points. Adding the points of an
+	 * array or a file can take one or many operations. So a count which was
+	 * increased by one only shows that a single point was changed, if it is
+	 * read right after that change.
+	 *
+	 * @return the modification count
+	 */
+	public long getModificationCount() {
+		return allPoints.getModificationCount();
+	}
+
+	/**
+	 * Removes the point from the store where all points are stored.
 	 *
 	 * @param point
 	 *            the point to be removed
 	 */
 	public void removePoint(Point point) {
-		allPoints.remove(point);
+		int index = allPoints.indexOf(point.x, point.y);
+		if (index >= 0) {
+			allPoints.remove(index);
+			pointGrid.remove(point.x, point.y,
+					allPoints.getModificationCount());
+		}
+	}
+
+	/**
+	 * Removes points from the store where all points are stored. For every
+	 * given point its first occurrence is removed, like by
+	 * <code>removePoint</code>, but all points are removed in one pass over
+	 * the store (see <code>PointStore.removeAll</code>).
+	 *
+	 * @param points
+	 *            the points to be removed
+	 */
+	public void removePoints(Collection<Point> points) {
+		int[] xs = new int[points.size()];
+		int[] ys = new int[points.size()];
+		int i = 0;
+		for (Point point : points) {
+			xs[i] = point.x;
+			ys[i] = point.y;
+			i++;
+		}
+		allPoints.removeAll(xs, ys, xs.length);
 	}
 
 	/**
 	 * Sets new coordinates to a given point.
 	 *
 	 * @param index
-	 *            the index of the point in the ArrayList
+	 *            the index of the point in the store
 	 * @param point
 	 *            the point that would be changed
 	 */
 	public void setPoint(int index, Point point) {
-		allPoints.set(index, point);
+		int oldX = allPoints.getX(index);
+		int oldY = allPoints.getY(index);
+		allPoints.set(index, point.x, point.y);
+		pointGrid.move(oldX, oldY, point.x, point.y,
+				allPoints.getModificationCount());
+	}
+
+	/**
+	 * Starts to drag a point. The hull of all other points is computed once;
+	 * if the point is not on the cached convex hull, the cached hull is that
+	 * hull. While the point is moved with <code>dragTo</code>, the hull is
+	 * updated in O(log h) time (see <code>DragHull</code>).
+	 *
+	 * @param index
+	 *            the index of the dragged point in the store
+	 * @return the hull which follows the dragged point
+	 */
+	public DragHull beginDrag(int index) {
+		return beginDrag(index, null);
+	}
+
+	/**
+	 * Starts to drag a point like <code>beginDrag(int)</code>, but the hull
+	 * of a result of the <code>HullComputeScheduler</code> is used instead of
+	 * the cached convex hull, if it belongs to the current points. So the
+	 * hull of all points is not computed again, when the calculator itself
+	 * has not computed it.
+	 *
+	 * @param index
+	 *            the index of the dragged point in the store
+	 * @param result
+	 *            the last result of the scheduler, can be null
+	 * @return the hull which follows the dragged point
+	 */
+	public DragHull beginDrag(int index, HullResult result) {
+		int x = allPoints.getX(index);
+		int y = allPoints.getY(index);
+		long modCount = allPoints.getModificationCount();
+		long[] otherHull = null;
+		if (result != null && result.getModificationCount() == modCount) {
+			otherHull = new long[result.getHullSize()];
+			for (int i = 0; i < otherHull.length; i++) {
+				otherHull[i] = PackedPoint.pack(result.getHullX(i),
+						result.getHullY(i));
+			}
+		} else if (cachedHull != null && cachedModCount == modCount) {
+			otherHull = new long[cachedHull.length];
+			for (int i = 0; i < otherHull.length; i++) {
+				otherHull[i] = PackedPoint.pack(cachedHull[i][0],
+						cachedHull[i][1]);
+			}
+		}
+		if (otherHull != null && isVertex(otherHull, PackedPoint.pack(x, y))) {
+			otherHull = null;
+		}
+		if (otherHull == null) {
+			otherHull = computeHullWithout(index);
+		}
+		// More than two equal points have the hull [p, p], so the point is
+		// kept twice to get the same result with the dragged point
+		otherHull = MonotoneChain.repeatSinglePoint(otherHull,
+				allPoints.size());
+		return new DragHull(index, otherHull, x, y, modCount);
+	}
+
+	/**
+	 * Moves a dragged point to new coordinates and updates its hull.
+	 *
+	 * @param drag
+	 *            the hull of the dragged point
+	 * @param x
+	 *            the new x coordinate
+	 * @param y
+	 *            the new y coordinate
+	 */
+	public void dragTo(DragHull drag, int x, int y) {
+		setPoint(drag.getIndex(), new Point(x, y));
+		drag.moveTo(x, y, allPoints.getModificationCount());
+	}
+
+	/**
+	 * Ends the drag of a point. If the points were only changed by
+	 * <code>dragTo</code>, the hull of the drag becomes the cached convex
+	 * hull, so it is not computed again.
+	 *
+	 * @param drag
+	 *            the hull of the dragged point
+	 */
+	public void endDrag(DragHull drag) {
+		if (drag.getModificationCount() == allPoints.getModificationCount()) {
+			setConvexHull(drag.toPackedArray());
+		}
+	}
+
+	/**
+	 * Sets the convex hull of the current points, which was computed
+	 * elsewhere, as cached convex hull.
+	 *
+	 * @param hull
+	 *            the packed points of the hull in the order of
+	 *            <code>MonotoneChain</code>
+	 */
+	void setConvexHull(long[] hull) {
+		convexHull.clear();
+		convexHull.ensureCapacity(hull.length);
+		for (int i = 0; i < hull.length; i++) {
+			convexHull.add(PackedPoint.x(hull[i]), PackedPoint.y(hull[i]));
+		}
+		clearAngleHulls();
+		cachedHull = convexHull.toArray();
+		cachedModCount = allPoints.getModificationCount();
+		eliminatedPoints = 0;
+	}
+
+	/**
+	 * Checks if a packed point is a vertex of a hull.
+	 *
+	 * @param hull
+	 *            the packed points of the hull
+	 * @param point
+	 *            the packed point
+	 * @return true, if it is a vertex
+	 */
+	private static boolean isVertex(long[] hull, long point) {
+		for (int i = 0; i < hull.length; i++) {
+			if (hull[i] == point) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Computes the convex hull of all points but one.
+	 *
+	 * @param index
+	 *            the index of the point which is left out
+	 * @return the packed points of the hull
+	 */
+	private long[] computeHullWithout(int index) {
+		int size = allPoints.size() - 1;
+		int[] xs = new int[size];
+		int[] ys = new int[size];
+		System.arraycopy(allPoints.xArray(), 0, xs, 0, index);
+		System.arraycopy(allPoints.yArray(), 0, ys, 0, index);
+		System.arraycopy(allPoints.xArray(), index + 1, xs, index, size
+				- index);
+		System.arraycopy(allPoints.yArray(), index + 1, ys, index, size
+				- index);
+		return MonotoneChain.computeHull(xs, ys, 0, size);
 	}
 
 	/**
@@ -333,99 +973,198 @@ public class HullCalculator implements IHullCalculator {
 	 * @return the index of the given point
 	 */
 	public int getIndex(Point point) {
-		return allPoints.indexOf(point);
+		return allPoints.indexOf(point.x, point.y);
 	}
 
 	/**
 	 * Checks if there is a point, which is close enough to a given coordinates.
+	 * Only the cells of the grid index near the coordinates are searched (see
+	 * <code>PointGrid</code>), so the time does not grow with the number of
+	 * points.
 	 *
 	 * @param x
 	 *            the x coordinate
 	 * @param y
 	 *            the y coordinate
-	 * @return the point, if there is a nearby one, else returns null
+	 * @return the nearest point, if there is a nearby one, else returns null
 	 */
 	public Point pointCloseEnough(int x, int y) {
-		for (Point point : allPoints) {
-			if (point.distance(x, y) < 5) {
-				return point;
+		return pointGrid.findNearest(allPoints, x, y, HIT_RADIUS);
+	}
+
+	/**
+	 * Gets the angle hull of the current convex hull for a given angle alpha.
+	 * It is computed on the first call and cached until the points are
+	 * changed.
+	 *
+	 * @param alpha
+	 *            the alpha angle in radians
+	 * @return the read-only list with the arcs of the angle hull
+	 */
+	public List<Arc2D.Double> getAngleHull(double alpha) {
+		getConvexHull();
+		List<Arc2D.Double> arcs = angleHulls.get(alpha);
+		if (arcs == null) {
+			arcs = Collections.unmodifiableList(computeAngleHull(alpha));
+			angleHulls.put(alpha, arcs);
+		}
+		return arcs;
+	}
+
+	/**
+	 * Gets the angles of the angle hulls returned by <code>getArcs()</code>.
+	 *
+	 * @return a copy of the angles in radians
+	 */
+	public double[] getAlphas() {
+		return alphas.clone();
+	}
+
+	/**
+	 * Sets the angles of the angle hulls returned by <code>getArcs()</code>.
+	 * Every angle has to be between 0 and PI radians, exclusive.
+	 *
+	 * @param alphas
+	 *            the angles in radians
+	 */
+	public void setAlphas(double... alphas) {
+		for (double alpha : alphas) {
+			if (!(alpha > 0 && alpha < Math.PI)) {
+				throw new IllegalArgumentException("Alpha out of range: "
+						+ alpha);
 			}
 		}
-		return null;
+		this.alphas = alphas.clone();
+		angleHull = null;
 	}
 
 	/**
-	 * Computes angle hull for the given convex hull and the given angle alpha.
-	 * It uses the angle hull algorithm with the help of the angle compare test.
+	 * Computes the angle hulls of all current alphas which are not computed
+	 * yet. The angle hulls of different alphas are independent, so every
+	 * alpha is computed by its own task on the common fork-join pool and
+	 * writes to its own list. Small convex hulls are handled on the calling
+	 * thread.
+	 */
+	private void computeAngleHulls() {
+		boolean parallel = convexHull.size() >= PARALLEL_ANGLE_HULL_THRESHOLD;
+		Map<Double, Future<List<Arc2D.Double>>> tasks = new LinkedHashMap<Double, Future<List<Arc2D.Double>>>();
+		for (final double alpha : alphas) {
+			if (angleHulls.containsKey(alpha) || tasks.containsKey(alpha)) {
+				continue;
+			}
+			if (!parallel) {
+				angleHulls.put(alpha,
+						Collections.unmodifiableList(computeAngleHull(alpha)));
+				continue;
+			}
+			tasks.put(alpha, ForkJoinPool.commonPool().submit(
+					new Callable<List<Arc2D.Double>>() {
+						@Override
+						public List<Arc2D.Double> call() {
+							return computeAngleHull(alpha);
+						}
+					}));
+		}
+		try {
+			for (Map.Entry<Double, Future<List<Arc2D.Double>>> task : tasks
+					.entrySet()) {
+				angleHulls.put(task.getKey(),
+						Collections.unmodifiableList(task.getValue().get()));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof CancellationException) {
+				throw (CancellationException) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Clears all computed angle hulls.
+	 */
+	private void clearAngleHulls() {
+		angleHulls.clear();
+		angleHull = null;
+	}
+
+	/**
+	 * Computes angle hull for the current convex hull and the given angle
+	 * alpha. It uses the angle hull algorithm with the help of the angle
+	 * compare test, which compares with the cosine of alpha, computed once.
+	 * The arc cosine is only used for the angles deltaS and deltaE. The
+	 * convex hull has to be computed before.
 	 *
 	 * @param alpha
-	 *            the alpha angle in grads
+	 *            the alpha angle in radians
+	 * @return the arcs of the angle hull
 	 */
-	public void computeAngleHull(double alpha) {
+	public List<Arc2D.Double> computeAngleHull(double alpha) {
+		checkCancelled();
+		long start = System.nanoTime();
+		List<Arc2D.Double> arcs = new ArrayList<Arc2D.Double>();
 		if (convexHull.size() > 1) {
+			double cosAlpha = Math.cos(alpha);
 			double deltaSPrime = 0;
 			double deltaS = 0;
 			double deltaE = 0;
 
-			DoubleLinkedList linkedList = new DoubleLinkedList();
-			for (int i = 0; i < convexHull.size(); i++) {
-				Point point = convexHull.get(i);
-				linkedList.insertIndex(point, i);
-			}
-			PointElement ls = linkedList.getElement(0);
-			PointElement rs = ls;
+			PointRing ring = new PointRing(convexHull);
+			int ls = 0;
+			int rs = ls;
 
-			while (angleCompareTest(ls.getPrev().getPoint(), ls.getPoint(),
-					rs.getPoint(), rs.getNext().getPoint(), alpha)) {
-				rs = rs.getNext();
+			while (isAngleAtLeast(ring, ring.prev(ls), ls, rs, ring.next(rs),
+					alpha, cosAlpha)) {
+				rs = ring.next(rs);
 			}
-			if (ls.getPoint().equals(rs.getPoint())) {
-				rs = rs.getNext();
+			if (ring.samePoint(ls, rs)) {
+				rs = ring.next(rs);
 				deltaSPrime = 0;
 			} else {
-				deltaSPrime = 2 * (angleBetweenLines(rs.getPoint(),
-						ls.getPoint(), ls.getPrev().getPoint()) - alpha);
+				deltaSPrime = 2 * (angleBetweenLines(ring, rs, ls,
+						ring.prev(ls)) - alpha);
 			}
 
-			PointElement lPrime = ls;
-			PointElement rPrime = rs;
-			PointElement l, r;
+			int lPrime = ls;
+			int rPrime = rs;
+			int l, r;
 			do {
 				l = lPrime;
 				r = rPrime;
 				deltaS = deltaSPrime;
-				if (angleCompareTest(l.getPoint(), l.getNext().getPoint(),
-						r.getPoint(), r.getNext().getPoint(), alpha)) {
-					if (angleCompareTest(l.getPoint(), r.getPoint(),
-							r.getPoint(), r.getNext().getPoint(), alpha)) {
-						deltaE = 2 * (angleBetweenLines(r.getNext().getPoint(),
-								r.getPoint(), l.getPoint()) - alpha);
-						deltaSPrime = 2 * angleBetweenLines(l.getPoint(), r
-								.getNext().getPoint(), r.getPoint());
+				if (isAngleAtLeast(ring, l, ring.next(l), r, ring.next(r),
+						alpha, cosAlpha)) {
+					if (isAngleAtLeast(ring, l, r, r, ring.next(r), alpha,
+							cosAlpha)) {
+						deltaE = 2 * (angleBetweenLines(ring, ring.next(r), r,
+								l) - alpha);
+						deltaSPrime = 2 * angleBetweenLines(ring, l,
+								ring.next(r), r);
 					} else {
 						deltaE = 0;
 						deltaSPrime = 0;
 					}
-					rPrime = r.getNext();
+					rPrime = ring.next(r);
 				} else {
-					if (l.getNext().getPoint().equals(r.getPoint())) {
+					if (ring.samePoint(ring.next(l), r)) {
 						deltaE = 0;
 						deltaSPrime = 0;
-						rPrime = r.getNext();
+						rPrime = ring.next(r);
 					} else {
-						deltaE = 2 * angleBetweenLines(l.getNext().getPoint(),
-								l.getPoint(), r.getPoint());
-						deltaSPrime = 2 * (angleBetweenLines(r.getPoint(), l
-								.getNext().getPoint(), l.getPoint()) - alpha);
+						deltaE = 2 * angleBetweenLines(ring, ring.next(l), l, r);
+						deltaSPrime = 2 * (angleBetweenLines(ring, r,
+								ring.next(l), l) - alpha);
 					}
-					lPrime = l.getNext();
+					lPrime = ring.next(l);
 				}
-				arcCalculation(l.getPoint(), r.getPoint(), alpha, deltaS,
-						deltaE);
-			} while (!(lPrime.getPoint().equals(ls.getPoint()))
-					|| !(rPrime.getPoint().equals(rs.getPoint())));
+				arcCalculation(ring.getX(l), ring.getY(l), ring.getX(r),
+						ring.getY(r), alpha, deltaS, deltaE, arcs);
+			} while (!ring.samePoint(lPrime, ls) || !ring.samePoint(rPrime, rs));
 		}
-
+		metrics.recordAngleHull(alpha, System.nanoTime() - start);
+		return arcs;
 	}
 
 	/**
@@ -447,129 +1186,236 @@ public class HullCalculator implements IHullCalculator {
 	 */
 	public boolean angleCompareTest(Point a, Point b, Point c, Point d,
 			double angle) {
-		boolean result = onTheRight(differenceBetweenPoints(b, a),
-				differenceBetweenPoints(d, c), O_POINT);
-		if (!result) {
+		return angleCompareTest(a.x, a.y, b.x, b.y, c.x, c.y, d.x, d.y, angle,
+				Math.cos(angle));
+	}
+
+	/**
+	 * Angle compare test over coordinates. It compares the angle between the
+	 * lines AB and DC. If the angle is bigger or equal the angle given as a
+	 * parameter, it returns true. The angle is not computed, instead the
+	 * skalar produkt &lt;A - B, D - C&gt; is compared with the cosine times
+	 * the lengths of the vectors. Both sides are squared, so no square root
+	 * is needed, and the signs are checked before. Only if the angle is
+	 * nearly equal the given one, the rounding of the two ways could differ,
+	 * so then the angle is computed with the arc cosine and compared like
+	 * before (see <code>ANGLE_TIE_TOLERANCE</code>). No object is created.
+	 *
+	 * @param ax
+	 *            the x coordinate of point A
+	 * @param ay
+	 *            the y coordinate of point A
+	 * @param bx
+	 *            the x coordinate of point B
+	 * @param by
+	 *            the y coordinate of point B
+	 * @param cx
+	 *            the x coordinate of point C
+	 * @param cy
+	 *            the y coordinate of point C
+	 * @param dx
+	 *            the x coordinate of point D
+	 * @param dy
+	 *            the y coordinate of point D
+	 * @param angle
+	 *            the angle
+	 * @param cosAngle
+	 *            the cosine of the angle
+	 * @return true, if angle between the lines is bigger or equal the angle
+	 */
+	static boolean angleCompareTest(int ax, int ay, int bx, int by, int cx,
+			int cy, int dx, int dy, double angle, double cosAngle) {
+		long abX = (long) bx - ax;
+		long abY = (long) by - ay;
+		long dcX = (long) dx - cx;
+		long dcY = (long) dy - cy;
+		if (!onTheRight(abX, abY, dcX, dcY, 0, 0)) {
 			return false;
-		} else {
-			if (angleBetweenLines(differenceBetweenPoints(a, b), O_POINT,
-					differenceBetweenPoints(d, c)) >= angle) {
-				return true;
-			} else {
-				return false;
-			}
 		}
+		// The angle is bigger, if its cosine <A - B, D - C> / |AB| |DC| is
+		// smaller than cosAngle
+		double skalarProdukt = -((double) abX * dcX + (double) abY * dcY);
+		double lengths = ((double) abX * abX + (double) abY * abY)
+				* ((double) dcX * dcX + (double) dcY * dcY);
+		double bound = cosAngle * cosAngle * lengths;
+		double squared = skalarProdukt * skalarProdukt;
+		if (Math.abs(squared - bound) <= ANGLE_TIE_TOLERANCE * lengths) {
+			return angleBetweenLines(-abX, -abY, 0, 0, dcX, dcY) >= angle;
+		}
+		if (cosAngle >= 0) {
+			return skalarProdukt <= 0 || squared <= bound;
+		}
+		return skalarProdukt < 0 && squared >= bound;
 	}
 
 	/**
-	 * The skalar produkt <A, B> of the two points A and B.
+	 * Angle compare test over points of a ring with the cosine of the angle
+	 * (see <code>angleCompareTest(int, int, int, int, int, int, int, int,
+	 * double, double)</code>).
 	 *
+	 * @param ring
+	 *            the ring
 	 * @param a
-	 *            Point A
+	 *            the index of point A
 	 * @param b
-	 *            Point B
-	 * @return the skalar produkt
+	 *            the index of point B
+	 * @param c
+	 *            the index of point C
+	 * @param d
+	 *            the index of point D
+	 * @param angle
+	 *            the angle
+	 * @param cosAngle
+	 *            the cosine of the angle
+	 * @return true, if angle between the lines is bigger or equal the angle
 	 */
-	private double skalarProdukt(Point a, Point b) {
-		return (a.x * b.x) + (a.y * b.y);
+	private static boolean isAngleAtLeast(PointRing ring, int a, int b,
+			int c, int d, double angle, double cosAngle) {
+		return angleCompareTest(ring.getX(a), ring.getY(a), ring.getX(b),
+				ring.getY(b), ring.getX(c), ring.getY(c), ring.getX(d),
+				ring.getY(d), angle, cosAngle);
 	}
 
-	/*
-	 * |A - B|
-	 */
 	/**
-	 * Distance between the two points : |A - B|.
+	 * Checks if a point is on the right or on the left to a given line between
+	 * 2 points.
 	 *
-	 * @param a
-	 *            Point A
-	 * @param b
-	 *            Point B
-	 * @return the distance between the points
+	 * @param ax
+	 *            the x coordinate of point A
+	 * @param ay
+	 *            the y coordinate of point A
+	 * @param bx
+	 *            the x coordinate of point B
+	 * @param by
+	 *            the y coordinate of point B
+	 * @param cx
+	 *            the x coordinate of point C
+	 * @param cy
+	 *            the y coordinate of point C
+	 * @return true, if C is on the right to the line between A and B
 	 */
-	private double distanceBetweenPoints(Point a, Point b) {
-		double firstOperand = (a.x - b.x) * (a.x - b.x);
-		double secondOperand = (a.y - b.y) * (a.y - b.y);
-		return Math.sqrt(firstOperand + secondOperand);
+	static boolean onTheRight(long ax, long ay, long bx, long by, long cx,
+			long cy) {
+		return (cx - ax) * (cy + ay) + (bx - cx) * (by + cy) + (ax - bx)
+				* (ay + by) < 0;
 	}
 
 	/**
-	 * Difference between points : A - B.
+	 * The angle between the lines BA and BC over points of a ring.
 	 *
+	 * @param ring
+	 *            the ring
 	 * @param a
-	 *            Point A
+	 *            the index of point A
 	 * @param b
-	 *            Point B
-	 * @return the difference between the two points
+	 *            the index of point B
+	 * @param c
+	 *            the index of point C
+	 * @return the angle between the lines
 	 */
-	private Point differenceBetweenPoints(Point a, Point b) {
-		return new Point(a.x - b.x, a.y - b.y);
+	private static double angleBetweenLines(PointRing ring, int a, int b,
+			int c) {
+		return angleBetweenLines(ring.getX(a), ring.getY(a), ring.getX(b),
+				ring.getY(b), ring.getX(c), ring.getY(c));
 	}
 
 	/**
-	 * The angle between the lines BA and BC.
+	 * The angle between the lines BA and BC over coordinates. It is the arc
+	 * cosine of the skalar produkt &lt;A - B, C - B&gt; divided by the
+	 * distances |A - B| and |C - B|.
 	 *
-	 * @param a
-	 *            Point A
-	 * @param b
-	 *            Point B
-	 * @param c
-	 *            Point C
+	 * @param ax
+	 *            the x coordinate of point A
+	 * @param ay
+	 *            the y coordinate of point A
+	 * @param bx
+	 *            the x coordinate of point B
+	 * @param by
+	 *            the y coordinate of point B
+	 * @param cx
+	 *            the x coordinate of point C
+	 * @param cy
+	 *            the y coordinate of point C
 	 * @return the angle between the lines
 	 */
-	private double angleBetweenLines(Point a, Point b, Point c) {
-		double overTheDivideLine = skalarProdukt(differenceBetweenPoints(a, b),
-				differenceBetweenPoints(c, b));
-		double underTheDivideLine = distanceBetweenPoints(a, b)
-				* distanceBetweenPoints(c, b);
-		double arcCosArg = overTheDivideLine / underTheDivideLine;
-		return Math.acos(arcCosArg);
+	static double angleBetweenLines(double ax, double ay, double bx,
+			double by, double cx, double cy) {
+		double baX = ax - bx;
+		double baY = ay - by;
+		double bcX = cx - bx;
+		double bcY = cy - by;
+		double overTheDivideLine = baX * bcX + baY * bcY;
+		double underTheDivideLine = Math.sqrt(baX * baX + baY * baY)
+				* Math.sqrt(bcX * bcX + bcY * bcY);
+		return Math.acos(overTheDivideLine / underTheDivideLine);
 	}
 
 	/**
-	 * Arc calculation. It calculates the arc from (A, B and Alpha) to (Z, r,
-	 * Sigma and Beta)
+	 * Arc calculation over coordinates. It calculates the arc from (A, B and
+	 * Alpha) to (Z, r, Sigma and Beta). The only created object is the arc.
 	 *
-	 * @param a
-	 *            Point A
-	 * @param b
-	 *            Point B
+	 * @param ax
+	 *            the x coordinate of point A
+	 * @param ay
+	 *            the y coordinate of point A
+	 * @param bx
+	 *            the x coordinate of point B
+	 * @param by
+	 *            the y coordinate of point B
 	 * @param alpha
 	 *            the angle alpha
 	 * @param deltaS
 	 *            the angle deltaS used for the arcs intersection
 	 * @param deltaE
 	 *            the angle detlaE used for the arcs intersection
+	 * @param arcs
+	 *            the list where the arc is added
 	 */
-	private void arcCalculation(Point a, Point b, double alpha, double deltaS,
-			double deltaE) {
-		double mX = (a.x + b.x) / 2;
-		double mY = (a.y + b.y) / 2;
-		double d = distanceBetweenPoints(a, b);
+	private static void arcCalculation(int ax, int ay, int bx, int by,
+			double alpha, double deltaS, double deltaE, List<Arc2D.Double> arcs) {
+		// The middle point is rounded like an int division
+		double mX = (ax + (long) bx) / 2;
+		double mY = (ay + (long) by) / 2;
+		double abX = (double) ax - bx;
+		double abY = (double) ay - by;
+		double d = Math.sqrt(abX * abX + abY * abY);
 		double k = (-1) * (d / (2 * Math.tan(alpha)));
-		double wX = (k / d) * (a.y - b.y);
-		double wY = (k / d) * (b.x - a.x);
+		double wX = (k / d) * abY;
+		double wY = (k / d) * -abX;
 		double zX = mX - wX;
 		double zY = mY - wY;
 		double radius = d / (2 * Math.sin(alpha));
-		double sigma = angleBetweenLines(E_POINT, O_POINT, new Point(a.x
-				- (int) zX, a.y - (int) zY));
-		if (a.y < zY) {
+		double sigma = angleBetweenLines(E_POINT.x, E_POINT.y, O_POINT.x,
+				O_POINT.y, ax - (long) zX, ay - (long) zY);
+		if (ay < zY) {
 			sigma = (2 * Math.PI) - sigma;
 		}
 		double beta = -2 * (Math.PI - alpha);
 
-		angleHull.add(new Arc2D.Double(zX - radius, zY - radius, 2 * radius,
+		arcs.add(new Arc2D.Double(zX - radius, zY - radius, 2 * radius,
 				2 * radius, (-1) * (sigma - deltaS) * (180 / Math.PI), (-1)
 						* (beta + deltaS + deltaE) * (180 / Math.PI),
 				Arc2D.OPEN));
 	}
 
 	/**
-	 * Gets the arcs which are computed for the given convex hull.
+	 * Gets the arcs of the angle hulls of all current alphas (see
+	 * <code>setAlphas(double...)</code>) for the current convex hull. The
+	 * angle hulls are computed on demand, the ones of different alphas in
+	 * parallel (see <code>computeAngleHulls()</code>).
 	 *
-	 * @return the arcs
+	 * @return the read-only list with the arcs
 	 */
 	public List<Arc2D.Double> getArcs() {
+		getConvexHull();
+		if (angleHull == null) {
+			computeAngleHulls();
+			List<Arc2D.Double> arcs = new ArrayList<Arc2D.Double>();
+			for (double alpha : alphas) {
+				arcs.addAll(getAngleHull(alpha));
+			}
+			angleHull = Collections.unmodifiableList(arcs);
+		}
 		return angleHull;
 	}
 }
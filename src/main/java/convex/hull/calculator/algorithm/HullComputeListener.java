@@ -0,0 +1,21 @@
+package convex.hull.calculator.algorithm;
+
+/**
+ * The listener interface for receiving the end of the computations of the
+ * <code>HullComputeScheduler</code>. It is called on the worker thread of
+ * the scheduler.
+ *
+ * @author Teodor Shaterov
+ */
+public interface HullComputeListener {
+
+	/**
+	 * Called when a computation is finished, was given up, because the
+	 * points were changed in the meantime, or failed.
+	 *
+	 * @param result
+	 *            the published result, or null if the computation was given
+	 *            up or failed
+	 */
+	void hullComputed(HullResult result);
+}
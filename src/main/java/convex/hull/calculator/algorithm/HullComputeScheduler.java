@@ -0,0 +1,238 @@
+package convex.hull.calculator.algorithm;
+
+import java.awt.geom.Arc2D;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The Class HullComputeScheduler. It computes the convex hull and the angle
+ * hulls of the points of a <code>HullCalculator</code> on a worker thread,
+ * so the thread which owns the calculator (the Event Dispatch Thread of the
+ * user interface) is not blocked. The last finished computation is published
+ * as an immutable <code>HullResult</code>.
+ * <p>
+ * On every change (see <code>requestCompute()</code>, which the user
+ * interface calls whenever it paints outdated points) the points are
+ * copied on the owner thread and the computation is started on the worker
+ * thread with its own calculator, which records into the metrics of the
+ * calculator with the points. Only one computation runs at a time. If the
+ * points are changed while it runs, it is given up after the current phase
+ * (the filter, the sorting, the chains or the angle hull of one alpha) and
+ * the listener is told so; the next request then starts a computation with
+ * the newest points. Rapid changes are therefore coalesced instead of
+ * queued.
+ * <p>
+ * When the drag of a point ends (see <code>commitDrag(DragHull)</code>), the
+ * hull of the drag is handed to the next computation, so only the angle
+ * hulls are computed for it.
+ *
+ * @author Teodor Shaterov
+ */
+public class HullComputeScheduler {
+
+	/** The calculator with the points. */
+	private final HullCalculator calculator;
+
+	/** The listener. */
+	private final HullComputeListener listener;
+
+	/** The worker thread. */
+	private final ExecutorService worker;
+
+	/** The calculator which is used on the worker thread. */
+	private final HullCalculator engine;
+
+	/** The last published result. */
+	private volatile HullResult result = null;
+
+	/** The modification count of the newest requested points. */
+	private volatile long requestedModCount = -1;
+
+	/** True, while a computation runs. */
+	private boolean running = false;
+
+	/**
+	 * The modification count of the points whose computation failed, so it
+	 * is not started again for the same points.
+	 */
+	private long failedModCount = -1;
+
+	/** The hull of the last committed drag, null if there is none. */
+	private long[] dragHull = null;
+
+	/** The modification count of the points of the committed drag. */
+	private long dragModCount = -1;
+
+	/**
+	 * Instantiates a new hull compute scheduler.
+	 *
+	 * @param calculator
+	 *            the calculator with the points
+	 * @param listener
+	 *            the listener which is told about every finished computation
+	 */
+	public HullComputeScheduler(HullCalculator calculator,
+			HullComputeListener listener) {
+		this.calculator = calculator;
+		this.listener = listener;
+		this.engine = new HullCalculator(calculator.getMetrics());
+		this.worker = Executors.newSingleThreadExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "hull-compute");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	/**
+	 * Gets the last published result.
+	 *
+	 * @return the result, or null if no computation is finished yet
+	 */
+	public HullResult getResult() {
+		return result;
+	}
+
+	/**
+	 * Checks if the published result belongs to the current points. It has
+	 * to be called on the thread which owns the calculator.
+	 *
+	 * @return true, if the result is up to date
+	 */
+	public boolean isUpToDate() {
+		HullResult current = result;
+		return current != null
+				&& current.getModificationCount() == calculator
+						.getModificationCount();
+	}
+
+	/**
+	 * Requests a computation for the current points. It has to be called on
+	 * the thread which owns the calculator. If the result is up to date or
+	 * the computation of the same points failed, nothing is done. If a
+	 * computation runs, it is only marked as outdated, so it is given up; the
+	 * next request after its end starts the new one.
+	 */
+	public synchronized void requestCompute() {
+		long modCount = calculator.getModificationCount();
+		requestedModCount = modCount;
+		if (running || isUpToDate() || modCount == failedModCount) {
+			return;
+		}
+		final PointStore points = calculator.copyPoints();
+		final HullAlgorithm algorithm = calculator.getAlgorithm();
+		final double[] alphas = calculator.getAlphas();
+		final long[] hull = dragModCount == modCount ? dragHull : null;
+		final long pointsModCount = modCount;
+		dragHull = null;
+		running = true;
+		worker.execute(new Runnable() {
+			@Override
+			public void run() {
+				HullResult newResult = null;
+				boolean completed = false;
+				try {
+					newResult = compute(points, algorithm, alphas, hull,
+							pointsModCount);
+					if (newResult != null) {
+						result = newResult;
+					}
+					completed = true;
+				} finally {
+					finished(completed, pointsModCount);
+					listener.hullComputed(newResult);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Commits the hull of a drag which just ended, so the next computation
+	 * uses it instead of computing the convex hull again, and requests that
+	 * computation. It has to be called on the thread which owns the
+	 * calculator. If the points were changed after the last move of the
+	 * drag, only a computation is requested.
+	 *
+	 * @param drag
+	 *            the hull of the drag
+	 */
+	public synchronized void commitDrag(DragHull drag) {
+		if (drag.getModificationCount() == calculator.getModificationCount()) {
+			dragHull = drag.toPackedArray();
+			dragModCount = drag.getModificationCount();
+		}
+		requestCompute();
+	}
+
+	/**
+	 * Stops the worker thread. The scheduler can not be used after that.
+	 */
+	public void shutdown() {
+		worker.shutdownNow();
+	}
+
+	/**
+	 * Computes the hulls on the worker thread.
+	 *
+	 * @param points
+	 *            the copy of the points
+	 * @param algorithm
+	 *            the algorithm of the calculator
+	 * @param alphas
+	 *            the alphas of the angle hulls
+	 * @param hull
+	 *            the convex hull of a committed drag, null if it has to be
+	 *            computed
+	 * @param modCount
+	 *            the modification count of the points
+	 * @return the result, or null if the points were changed in the meantime
+	 */
+	private HullResult compute(PointStore points, HullAlgorithm algorithm,
+			double[] alphas, long[] hull, final long modCount) {
+		long start = System.nanoTime();
+		engine.setCancellation(new BooleanSupplier() {
+			@Override
+			public boolean getAsBoolean() {
+				return requestedModCount != modCount;
+			}
+		});
+		engine.setAlgorithm(algorithm);
+		engine.setAlphas(alphas);
+		engine.setPoints(points);
+		if (hull != null) {
+			engine.setConvexHull(hull);
+		}
+		int[][] convexHull;
+		List<Arc2D.Double> arcs;
+		try {
+			convexHull = engine.getConvexHull();
+			arcs = engine.getArcs();
+		} catch (CancellationException e) {
+			return null;
+		}
+		HullResult newResult = new HullResult(modCount, convexHull, arcs,
+				System.nanoTime() - start);
+		return requestedModCount == modCount ? newResult : null;
+	}
+
+	/**
+	 * Marks the end of a computation.
+	 *
+	 * @param completed
+	 *            false, if the computation failed
+	 * @param modCount
+	 *            the modification count of the points of the computation
+	 */
+	private synchronized void finished(boolean completed, long modCount) {
+		running = false;
+		if (!completed) {
+			failedModCount = modCount;
+		}
+	}
+}
@@ -0,0 +1,358 @@
+package convex.hull.calculator.algorithm;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The Class HullMetrics. It collects the times of the phases (see
+ * <code>HullPhase</code>) and some counters of a <code>HullCalculator</code>.
+ * Every phase is timed once per execution, not once per point, and the
+ * values are kept in <code>LongAdder</code>s, so recording is cheap and can
+ * be done from several threads. The metrics can be registered as MXBean, so
+ * they can be read by JMX clients like jconsole.
+ *
+ * @author Teodor Shaterov
+ */
+public class HullMetrics implements HullMetricsMXBean {
+
+	/** The domain of the JMX object names. */
+	public static final String JMX_DOMAIN = "convex.hull.calculator";
+
+	/** The total time of every phase. */
+	private final LongAdder[] phaseNanos = new LongAdder[HullPhase.values().length];
+
+	/** How many times every phase was executed. */
+	private final LongAdder[] phaseCounts = new LongAdder[HullPhase.values().length];
+
+	/** The total time of the angle hulls by alpha. */
+	private final ConcurrentHashMap<Double, LongAdder> angleHullNanos = new ConcurrentHashMap<Double, LongAdder>();
+
+	/** The number of added points. */
+	private final LongAdder pointsIngested = new LongAdder();
+
+	/** The number of points over which the convex hull was computed. */
+	private final LongAdder pointsProcessed = new LongAdder();
+
+	/** The number of points dropped by the Akl-Toussaint filter. */
+	private final LongAdder pointsEliminated = new LongAdder();
+
+	/** The number of points removed during the chain scans. */
+	private final LongAdder chainPops = new LongAdder();
+
+	/** The number of cache hits. */
+	private final LongAdder cacheHits = new LongAdder();
+
+	/** The number of cache misses. */
+	private final LongAdder cacheMisses = new LongAdder();
+
+	/** The size of the last computed convex hull. */
+	private volatile int lastHullSize = 0;
+
+	/** The name under which the metrics are registered, or null. */
+	private ObjectName objectName = null;
+
+	/**
+	 * Instantiates new empty metrics.
+	 */
+	public HullMetrics() {
+		for (int i = 0; i < phaseNanos.length; i++) {
+			phaseNanos[i] = new LongAdder();
+			phaseCounts[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Records one execution of a phase.
+	 *
+	 * @param phase
+	 *            the phase
+	 * @param nanos
+	 *            the time of the execution in nanoseconds
+	 */
+	public void record(HullPhase phase, long nanos) {
+		phaseNanos[phase.ordinal()].add(nanos);
+		phaseCounts[phase.ordinal()].increment();
+	}
+
+	/**
+	 * Records the computation of an angle hull.
+	 *
+	 * @param alpha
+	 *            the alpha angle in radians
+	 * @param nanos
+	 *            the time of the computation in nanoseconds
+	 */
+	public void recordAngleHull(double alpha, long nanos) {
+		record(HullPhase.ANGLE_HULL, nanos);
+		LongAdder adder = angleHullNanos.get(alpha);
+		if (adder == null) {
+			LongAdder newAdder = new LongAdder();
+			adder = angleHullNanos.putIfAbsent(alpha, newAdder);
+			if (adder == null) {
+				adder = newAdder;
+			}
+		}
+		adder.add(nanos);
+	}
+
+	/**
+	 * Adds to the number of added points.
+	 *
+	 * @param points
+	 *            the number of points
+	 */
+	public void addPointsIngested(long points) {
+		pointsIngested.add(points);
+	}
+
+	/**
+	 * Records a computation of the convex hull.
+	 *
+	 * @param points
+	 *            the number of points
+	 * @param eliminated
+	 *            the number of points dropped by the filter
+	 * @param hullSize
+	 *            the size of the convex hull
+	 */
+	public void recordHull(int points, int eliminated, int hullSize) {
+		pointsProcessed.add(points);
+		pointsEliminated.add(eliminated);
+		lastHullSize = hullSize;
+	}
+
+	/**
+	 * Adds to the number of points removed during the chain scans.
+	 *
+	 * @param pops
+	 *            the number of pops
+	 */
+	public void addChainPops(long pops) {
+		chainPops.add(pops);
+	}
+
+	/**
+	 * Counts a cache hit.
+	 */
+	public void cacheHit() {
+		cacheHits.increment();
+	}
+
+	/**
+	 * Counts a cache miss.
+	 */
+	public void cacheMiss() {
+		cacheMisses.increment();
+	}
+
+	/**
+	 * Gets the total time of a phase.
+	 *
+	 * @param phase
+	 *            the phase
+	 * @return the nanoseconds
+	 */
+	public long getPhaseNanos(HullPhase phase) {
+		return phaseNanos[phase.ordinal()].sum();
+	}
+
+	/**
+	 * Gets how many times a phase was executed.
+	 *
+	 * @param phase
+	 *            the phase
+	 * @return the count
+	 */
+	public long getPhaseCount(HullPhase phase) {
+		return phaseCounts[phase.ordinal()].sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see convex.hull.calculator.algorithm.HullMetricsMXBean#getPhaseNanos()
+	 */
+	@Override
+	public Map<String, Long> getPhaseNanos() {
+		return toMap(phaseNanos);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see convex.hull.calculator.algorithm.HullMetricsMXBean#getPhaseCounts()
+	 */
+	@Override
+	public Map<String, Long> getPhaseCounts() {
+		return toMap(phaseCounts);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * convex.hull.calculator.algorithm.HullMetricsMXBean#getAngleHullNanos()
+	 */
+	@Override
+	public Map<String, Long> getAngleHullNanos() {
+		Map<String, Long> map = new TreeMap<String, Long>();
+		for (Map.Entry<Double, LongAdder> entry : angleHullNanos.entrySet()) {
+			map.put(String.format("%.1f", Math.toDegrees(entry.getKey())),
+					entry.getValue().sum());
+		}
+		return map;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * convex.hull.calculator.algorithm.HullMetricsMXBean#getPointsIngested()
+	 */
+	@Override
+	public long getPointsIngested() {
+		return pointsIngested.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * convex.hull.calculator.algorithm.HullMetricsMXBean#getPointsProcessed()
+	 */
+	@Override
+	public long getPointsProcessed() {
+		return pointsProcessed.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * convex.hull.calculator.algorithm.HullMetricsMXBean#getPointsEliminated()
+	 */
+	@Override
+	public long getPointsEliminated() {
+		return pointsEliminated.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see convex.hull.calculator.algorithm.HullMetricsMXBean#getLastHullSize()
+	 */
+	@Override
+	public int getLastHullSize() {
+		return lastHullSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see convex.hull.calculator.algorithm.HullMetricsMXBean#getChainPops()
+	 */
+	@Override
+	public long getChainPops() {
+		return chainPops.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see convex.hull.calculator.algorithm.HullMetricsMXBean#getCacheHits()
+	 */
+	@Override
+	public long getCacheHits() {
+		return cacheHits.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see convex.hull.calculator.algorithm.HullMetricsMXBean#getCacheMisses()
+	 */
+	@Override
+	public long getCacheMisses() {
+		return cacheMisses.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see convex.hull.calculator.algorithm.HullMetricsMXBean#reset()
+	 */
+	@Override
+	public void reset() {
+		for (int i = 0; i < phaseNanos.length; i++) {
+			phaseNanos[i].reset();
+			phaseCounts[i].reset();
+		}
+		angleHullNanos.clear();
+		pointsIngested.reset();
+		pointsProcessed.reset();
+		pointsEliminated.reset();
+		chainPops.reset();
+		cacheHits.reset();
+		cacheMisses.reset();
+		lastHullSize = 0;
+	}
+
+	/**
+	 * Registers the metrics at the platform MBean server with the object name
+	 * "convex.hull.calculator:type=HullMetrics,name=<code>name</code>".
+	 *
+	 * @param name
+	 *            the name of the calculator
+	 * @return the object name
+	 * @throws JMException
+	 *             if the metrics could not be registered
+	 */
+	public synchronized ObjectName registerMBean(String name)
+			throws JMException {
+		unregisterMBean();
+		ObjectName newName = new ObjectName(JMX_DOMAIN + ":type=HullMetrics,name="
+				+ ObjectName.quote(name));
+		ManagementFactory.getPlatformMBeanServer().registerMBean(this, newName);
+		objectName = newName;
+		return newName;
+	}
+
+	/**
+	 * Unregisters the metrics from the platform MBean server, if they are
+	 * registered.
+	 *
+	 * @throws JMException
+	 *             if the metrics could not be unregistered
+	 */
+	public synchronized void unregisterMBean() throws JMException {
+		if (objectName != null) {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			if (server.isRegistered(objectName)) {
+				server.unregisterMBean(objectName);
+			}
+			objectName = null;
+		}
+	}
+
+	/**
+	 * Converts the values of all phases to a map.
+	 *
+	 * @param adders
+	 *            the values by the ordinal of the phase
+	 * @return the values by the name of the phase
+	 */
+	private static Map<String, Long> toMap(LongAdder[] adders) {
+		Map<String, Long> map = new TreeMap<String, Long>();
+		for (HullPhase phase : HullPhase.values()) {
+			map.put(phase.name(), adders[phase.ordinal()].sum());
+		}
+		return map;
+	}
+}
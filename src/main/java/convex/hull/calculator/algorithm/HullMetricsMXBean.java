@@ -0,0 +1,89 @@
+package convex.hull.calculator.algorithm;
+
+import java.util.Map;
+
+/**
+ * The interface of the metrics of a <code>HullCalculator</code>. It is used
+ * by Java callers and, as MXBean, by JMX clients. All times are in
+ * nanoseconds and are summed up since the creation or the last reset.
+ *
+ * @author Teodor Shaterov
+ */
+public interface HullMetricsMXBean {
+
+	/**
+	 * Gets the total time of every phase (see <code>HullPhase</code>).
+	 *
+	 * @return the nanoseconds by the name of the phase
+	 */
+	Map<String, Long> getPhaseNanos();
+
+	/**
+	 * Gets how many times every phase was executed.
+	 *
+	 * @return the counts by the name of the phase
+	 */
+	Map<String, Long> getPhaseCounts();
+
+	/**
+	 * Gets the total time of the angle hulls of every alpha.
+	 *
+	 * @return the nanoseconds by the alpha in degrees
+	 */
+	Map<String, Long> getAngleHullNanos();
+
+	/**
+	 * Gets the number of added points.
+	 *
+	 * @return the number of points
+	 */
+	long getPointsIngested();
+
+	/**
+	 * Gets the number of points over which the convex hull was computed.
+	 *
+	 * @return the number of points
+	 */
+	long getPointsProcessed();
+
+	/**
+	 * Gets the number of points dropped by the Akl-Toussaint filter.
+	 *
+	 * @return the number of points
+	 */
+	long getPointsEliminated();
+
+	/**
+	 * Gets the size of the last computed convex hull.
+	 *
+	 * @return the number of hull points
+	 */
+	int getLastHullSize();
+
+	/**
+	 * Gets the number of points which were removed from the chain during the
+	 * scans of the monotone chain.
+	 *
+	 * @return the number of pops
+	 */
+	long getChainPops();
+
+	/**
+	 * Gets the number of calls which reused the cached hull.
+	 *
+	 * @return the number of cache hits
+	 */
+	long getCacheHits();
+
+	/**
+	 * Gets the number of calls which had to compute the hull.
+	 *
+	 * @return the number of cache misses
+	 */
+	long getCacheMisses();
+
+	/**
+	 * Sets all times and counters to zero.
+	 */
+	void reset();
+}
@@ -2,12 +2,16 @@ package convex.hull.calculator.algorithm;
 
 import java.awt.Point;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Collection;
 import java.util.Observable;
 
 import de.feu.propra15.interfaces.IHullCalculator;
 
 /**
- * The Class HullObservable.
+ * The Class HullObservable. Every change of the points notifies the
+ * observers once, also a change of many points at once.
  * 
  * @author Teodor Shaterov
  */
@@ -34,8 +38,7 @@ public class HullObservable extends Observable {
 	 */
 	public void addPoint(Point point) {
 		calculator.addPoint(point.x, point.y);
-		setChanged();
-		notifyObservers();
+		changed();
 	}
 
 	/**
@@ -48,12 +51,122 @@ public class HullObservable extends Observable {
 	 */
 	public void addPoint(int x, int y) {
 		calculator.addPoint(x, y);
+		changed();
+	}
+
+	/**
+	 * Adds points from two arrays, one with the x and one with the y
+	 * coordinates, and notifies the observers once. An offset or length
+	 * outside of the arrays is rejected before any point is added.
+	 *
+	 * @param xs
+	 *            the x coordinates
+	 * @param ys
+	 *            the y coordinates
+	 * @param offset
+	 *            the index of the first point in the arrays
+	 * @param length
+	 *            the number of points
+	 */
+	public void addPoints(int[] xs, int[] ys, int offset, int length) {
+		if (offset < 0 || length < 0 || length > xs.length - offset
+				|| length > ys.length - offset) {
+			throw new IndexOutOfBoundsException("Offset: " + offset
+					+ ", Length: " + length);
+		}
+		if (calculator instanceof HullCalculator) {
+			((HullCalculator) calculator).addPoints(xs, ys, offset, length);
+		} else {
+			for (int i = offset; i < offset + length; i++) {
+				calculator.addPoint(xs[i], ys[i]);
+			}
+		}
+		changed();
+	}
+
+	/**
+	 * Adds all remaining points of a buffer, where every x coordinate is
+	 * followed by its y coordinate, and notifies the observers once. A buffer
+	 * with an odd number of coordinates is rejected before any point is
+	 * added.
+	 *
+	 * @param interleaved
+	 *            the buffer with the coordinates
+	 */
+	public void addPoints(IntBuffer interleaved) {
+		if (calculator instanceof HullCalculator) {
+			((HullCalculator) calculator).addPoints(interleaved);
+		} else {
+			int remaining = interleaved.remaining();
+			if (remaining % 2 != 0) {
+				throw new IllegalArgumentException(
+						"Odd number of coordinates: " + remaining);
+			}
+			while (interleaved.hasRemaining()) {
+				calculator.addPoint(interleaved.get(), interleaved.get());
+			}
+		}
+		changed();
+	}
+
+	/**
+	 * Adds all remaining points of a byte buffer, which contains int values
+	 * in the byte order of the buffer and where every x coordinate is followed
+	 * by its y coordinate, and notifies the observers once. A buffer with an
+	 * incomplete point is rejected before any point is added.
+	 *
+	 * @param interleaved
+	 *            the buffer with the coordinates
+	 */
+	public void addPoints(ByteBuffer interleaved) {
+		if (calculator instanceof HullCalculator) {
+			((HullCalculator) calculator).addPoints(interleaved);
+		} else {
+			int remaining = interleaved.remaining();
+			if (remaining % 8 != 0) {
+				throw new IllegalArgumentException(
+						"Incomplete point in the buffer: " + remaining
+								+ " bytes");
+			}
+			while (interleaved.hasRemaining()) {
+				calculator.addPoint(interleaved.getInt(), interleaved.getInt());
+			}
+		}
+		changed();
+	}
+
+	/**
+	 * Adds a collection of points and notifies the observers once. The points
+	 * are copied to coordinate arrays and added at once (see
+	 * <code>addPoints(int[], int[], int, int)</code>).
+	 *
+	 * @param points
+	 *            the points which are added
+	 */
+	public void addPoints(Collection<Point> points) {
+		int[] xs = new int[points.size()];
+		int[] ys = new int[points.size()];
+		int i = 0;
+		for (Point point : points) {
+			xs[i] = point.x;
+			ys[i] = point.y;
+			i++;
+		}
+		addPoints(xs, ys, 0, xs.length);
+	}
+
+	/**
+	 * Marks the points as changed and notifies the observers.
+	 */
+	private void changed() {
 		setChanged();
 		notifyObservers();
 	}
 
 	/**
-	 * Adds points from file and notifies the observers.
+	 * Adds points from file and notifies the observers. They are notified
+	 * even if an error occurs, because the points which were read before it
+	 * are kept.
 	 *
 	 * @param filename
 	 *            the filename
@@ -62,9 +175,11 @@ public class HullObservable extends Observable {
 	 *             handling.
 	 */
 	public void addPointsFromFile(String filename) throws IOException {
-		calculator.addPointsFromFile(filename);
-		setChanged();
-		notifyObservers();
+		try {
+			calculator.addPointsFromFile(filename);
+		} finally {
+			changed();
+		}
 	}
 
 	/**
@@ -72,19 +187,16 @@ public class HullObservable extends Observable {
 	 */
 	public void clear() {
 		calculator.clear();
-		setChanged();
-		notifyObservers();
+		changed();
 	}
 
 	/**
-	 * Gets the convex hull, which automatically computes it.
+	 * Gets the convex hull, which automatically computes it. Reading the hull
+	 * does not change the points, so the observers are not notified.
 	 *
 	 * @return the convex hull
 	 */
 	public int[][] getConvexHull() {
-		int[][] convexHull = calculator.getConvexHull();
-		setChanged();
-		notifyObservers();
-		return convexHull;
+		return calculator.getConvexHull();
 	}
 }
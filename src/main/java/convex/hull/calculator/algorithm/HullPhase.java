@@ -0,0 +1,37 @@
+package convex.hull.calculator.algorithm;
+
+/**
+ * The Enum HullPhase. The phases of the work of the
+ * <code>HullCalculator</code> which are timed by the <code>HullMetrics</code>.
+ *
+ * @author Teodor Shaterov
+ */
+public enum HullPhase {
+
+	/** Adding points from a file, an array or a buffer. */
+	INGEST,
+
+	/** Dropping the points inside the Akl-Toussaint octagon. */
+	FILTER,
+
+	/** Sorting the packed points. */
+	SORT,
+
+	/** Computing the upper hull with the monotone chain. */
+	UPPER_CHAIN,
+
+	/** Computing the lower hull with the monotone chain. */
+	LOWER_CHAIN,
+
+	/** Computing the convex hull, with all phases above but the ingest. */
+	HULL,
+
+	/** Computing the angle hull of one alpha. */
+	ANGLE_HULL,
+
+	/** Converting the packed convex hull to the store. */
+	CONVERSION,
+
+	/** Copying the convex hull from the store to the int array. */
+	ARRAY_CONVERSION
+}
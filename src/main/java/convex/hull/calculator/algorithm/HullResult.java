@@ -0,0 +1,131 @@
+package convex.hull.calculator.algorithm;
+
+import java.awt.geom.Arc2D;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The Class HullResult. It is the immutable result of a computation of the
+ * <code>HullComputeScheduler</code>: the convex hull and the arcs of the
+ * angle hulls of the points with a given modification count. The arrays and
+ * arcs are copied when the result is created, so they are not shared with
+ * the calculator which computed them.
+ *
+ * @author Teodor Shaterov
+ */
+public final class HullResult {
+
+	/** The modification count of the points of the result. */
+	private final long modificationCount;
+
+	/** The convex hull. */
+	private final int[][] hull;
+
+	/** The arcs of the angle hulls. */
+	private final List<Arc2D.Double> arcs;
+
+	/** The time of the computation in nanoseconds. */
+	private final long nanos;
+
+	/**
+	 * Instantiates a new hull result.
+	 *
+	 * @param modificationCount
+	 *            the modification count of the points
+	 * @param hull
+	 *            the convex hull
+	 * @param arcs
+	 *            the arcs of the angle hulls
+	 * @param nanos
+	 *            the time of the computation in nanoseconds
+	 */
+	public HullResult(long modificationCount, int[][] hull,
+			List<Arc2D.Double> arcs, long nanos) {
+		this.modificationCount = modificationCount;
+		this.hull = new int[hull.length][];
+		for (int i = 0; i < hull.length; i++) {
+			this.hull[i] = hull[i].clone();
+		}
+		List<Arc2D.Double> arcsCopy = new ArrayList<Arc2D.Double>(arcs.size());
+		for (Arc2D.Double arc : arcs) {
+			arcsCopy.add((Arc2D.Double) arc.clone());
+		}
+		this.arcs = Collections.unmodifiableList(arcsCopy);
+		this.nanos = nanos;
+	}
+
+	/**
+	 * Gets the modification count of the points of the result (see
+	 * <code>HullCalculator.getModificationCount()</code>).
+	 *
+	 * @return the modification count
+	 */
+	public long getModificationCount() {
+		return modificationCount;
+	}
+
+	/**
+	 * Gets the number of points of the convex hull.
+	 *
+	 * @return the size of the hull
+	 */
+	public int getHullSize() {
+		return hull.length;
+	}
+
+	/**
+	 * Gets the x coordinate of a point of the convex hull.
+	 *
+	 * @param index
+	 *            the index of the point
+	 * @return the x coordinate
+	 */
+	public int getHullX(int index) {
+		return hull[index][0];
+	}
+
+	/**
+	 * Gets the y coordinate of a point of the convex hull.
+	 *
+	 * @param index
+	 *            the index of the point
+	 * @return the y coordinate
+	 */
+	public int getHullY(int index) {
+		return hull[index][1];
+	}
+
+	/**
+	 * Gets a copy of the convex hull in the same shape as
+	 * <code>HullCalculator.getConvexHull()</code>.
+	 *
+	 * @return the convex hull
+	 */
+	public int[][] getConvexHull() {
+		int[][] copy = new int[hull.length][];
+		for (int i = 0; i < hull.length; i++) {
+			copy[i] = hull[i].clone();
+		}
+		return copy;
+	}
+
+	/**
+	 * Gets the read-only list with the arcs of the angle hulls. The arcs
+	 * belong to the result and must not be changed.
+	 *
+	 * @return the arcs
+	 */
+	public List<Arc2D.Double> getArcs() {
+		return arcs;
+	}
+
+	/**
+	 * Gets the time of the computation in nanoseconds.
+	 *
+	 * @return the nanoseconds
+	 */
+	public long getNanos() {
+		return nanos;
+	}
+}
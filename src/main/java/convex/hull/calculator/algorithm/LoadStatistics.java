@@ -0,0 +1,113 @@
+package convex.hull.calculator.algorithm;
+
+/**
+ * The Class LoadStatistics. It describes how fast a point file was loaded.
+ *
+ * @author Teodor Shaterov
+ */
+public class LoadStatistics {
+
+	/** The number of bytes in one megabyte. */
+	private static final double MEGABYTE = 1000000.0;
+
+	/** The number of nanoseconds in one second. */
+	private static final double SECOND = 1000000000.0;
+
+	/** The number of bytes which were read. */
+	private final long bytes;
+
+	/** The number of points which were added. */
+	private final long points;
+
+	/** The number of threads which were used. */
+	private final int threads;
+
+	/** The time of the load in nanoseconds. */
+	private final long nanos;
+
+	/**
+	 * Instantiates new load statistics.
+	 *
+	 * @param bytes
+	 *            the number of bytes which were read
+	 * @param points
+	 *            the number of points which were added
+	 * @param threads
+	 *            the number of threads which were used
+	 * @param nanos
+	 *            the time of the load in nanoseconds
+	 */
+	public LoadStatistics(long bytes, long points, int threads, long nanos) {
+		this.bytes = bytes;
+		this.points = points;
+		this.threads = threads;
+		this.nanos = Math.max(nanos, 1);
+	}
+
+	/**
+	 * Gets the number of bytes which were read.
+	 *
+	 * @return the bytes
+	 */
+	public long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Gets the number of points which were added.
+	 *
+	 * @return the points
+	 */
+	public long getPoints() {
+		return points;
+	}
+
+	/**
+	 * Gets the number of threads which were used.
+	 *
+	 * @return the threads
+	 */
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * Gets the time of the load in nanoseconds.
+	 *
+	 * @return the nanoseconds
+	 */
+	public long getNanos() {
+		return nanos;
+	}
+
+	/**
+	 * Gets the throughput in megabytes per second.
+	 *
+	 * @return the megabytes per second
+	 */
+	public double getMegabytesPerSecond() {
+		return bytes / MEGABYTE / (nanos / SECOND);
+	}
+
+	/**
+	 * Gets the throughput in points per second.
+	 *
+	 * @return the points per second
+	 */
+	public double getPointsPerSecond() {
+		return points / (nanos / SECOND);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("%d points (%.1f MB) with %d thread(s) in %d ms:"
+				+ " %.1f MB/s, %.0f points/s", points, bytes / MEGABYTE,
+				threads, nanos / 1000000, getMegabytesPerSecond(),
+				getPointsPerSecond());
+	}
+}
@@ -0,0 +1,254 @@
+package convex.hull.calculator.algorithm;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The Class MonotoneChain. It computes the convex hull of packed points (see
+ * <code>PackedPoint</code>) which are already sorted by their x and y
+ * coordinates. The set of points is divided to upper and lower hull and then
+ * the algorithm iterates over the points and puts them to the convex set.
+ *
+ * @author Teodor Shaterov
+ */
+public final class MonotoneChain {
+
+	/**
+	 * A private constructor used to show that the class is a Utils one.
+	 */
+	private MonotoneChain() {
+	}
+
+	/**
+	 * Computes the convex hull of the first <code>size</code> sorted points.
+	 * The hull starts with the smallest point, continues with the upper hull
+	 * and ends with the lower hull.
+	 *
+	 * @param sortedPoints
+	 *            the packed points sorted by their X coordinates
+	 * @param size
+	 *            the number of points
+	 * @return the packed points which are forming the convex hull
+	 */
+	public static long[] computeHull(long[] sortedPoints, int size) {
+		return computeHull(sortedPoints, size, null);
+	}
+
+	/**
+	 * Computes the convex hull of the first <code>size</code> sorted points
+	 * and records the times of the upper and the lower chain and the number
+	 * of points removed from the chains.
+	 *
+	 * @param sortedPoints
+	 *            the packed points sorted by their X coordinates
+	 * @param size
+	 *            the number of points
+	 * @param metrics
+	 *            the metrics, can be null
+	 * @return the packed points which are forming the convex hull
+	 */
+	public static long[] computeHull(long[] sortedPoints, int size,
+			HullMetrics metrics) {
+		if (size < 3) {
+			if (size == 2 && sortedPoints[0] == sortedPoints[1]) {
+				return new long[] { sortedPoints[0] };
+			}
+			return Arrays.copyOf(sortedPoints, size);
+		}
+
+		long start = metrics != null ? System.nanoTime() : 0;
+		long[] upperHull = new long[size];
+		long[] lowerHull = new long[size];
+
+		upperHull[0] = sortedPoints[0];
+		upperHull[1] = sortedPoints[1];
+		int upperSize = 2;
+
+		lowerHull[0] = sortedPoints[size - 1];
+		lowerHull[1] = sortedPoints[size - 2];
+		int lowerSize = 2;
+
+		for (int i = 2; i < size; i++) {
+			upperSize = fillHullHalf(sortedPoints, upperHull, upperSize, i);
+		}
+		long upperEnd = metrics != null ? System.nanoTime() : 0;
+
+		for (int i = size - 3; i >= 0; i--) {
+			lowerSize = fillHullHalf(sortedPoints, lowerHull, lowerSize, i);
+		}
+
+		long[] convexHull = new long[upperSize + Math.max(lowerSize - 2, 0)];
+		System.arraycopy(upperHull, 0, convexHull, 0, upperSize);
+		for (int i = 1; i < lowerSize - 1; i++) {
+			convexHull[upperSize + i - 1] = lowerHull[i];
+		}
+		if (metrics != null) {
+			metrics.record(HullPhase.UPPER_CHAIN, upperEnd - start);
+			metrics.record(HullPhase.LOWER_CHAIN, System.nanoTime() - upperEnd);
+			// Every point is pushed once to each chain, so the pops are the
+			// points which are not left in it
+			metrics.addChainPops(2L * size - upperSize - lowerSize);
+		}
+		return convexHull;
+	}
+
+	/**
+	 * Sorts the first <code>size</code> packed points (see
+	 * <code>PointSorter</code>) and computes their convex hull. The order of
+	 * the points in the array is changed.
+	 *
+	 * @param points
+	 *            the packed points
+	 * @param size
+	 *            the number of points
+	 * @return the packed points which are forming the convex hull
+	 */
+	public static long[] sortAndComputeHull(long[] points, int size) {
+		PointSorter.sort(points, size);
+		return computeHull(points, size);
+	}
+
+	/**
+	 * Computes the convex hull of the points with indices from
+	 * <code>from</code> (inclusive) to <code>to</code> (exclusive) of two
+	 * arrays, one with the x and one with the y coordinates. The points
+	 * which are lying strictly inside the Akl-Toussaint octagon are dropped
+	 * (see <code>AklToussaintFilter</code>), the rest is sorted as packed
+	 * points and the monotone chain is computed over them.
+	 *
+	 * @param xs
+	 *            the x coordinates
+	 * @param ys
+	 *            the y coordinates
+	 * @param from
+	 *            the first index of the range
+	 * @param to
+	 *            the index after the last one of the range
+	 * @return the packed points which are forming the convex hull
+	 */
+	public static long[] computeHull(int[] xs, int[] ys, int from, int to) {
+		return computeHull(xs, ys, from, to, null, null);
+	}
+
+	/**
+	 * Computes the convex hull of the points in a range of two arrays like
+	 * <code>computeHull(int[], int[], int, int)</code>, together with packed
+	 * points which are not filtered, for example a hull computed before.
+	 *
+	 * @param xs
+	 *            the x coordinates
+	 * @param ys
+	 *            the y coordinates
+	 * @param from
+	 *            the first index of the range
+	 * @param to
+	 *            the index after the last one of the range
+	 * @param keptPoints
+	 *            the packed points which are added after the filter, can be
+	 *            null
+	 * @param survivors
+	 *            the counter to which the number of points which survived
+	 *            the filter is added, can be null
+	 * @return the packed points which are forming the convex hull
+	 */
+	static long[] computeHull(int[] xs, int[] ys, int from, int to,
+			long[] keptPoints, AtomicInteger survivors) {
+		int kept = keptPoints == null ? 0 : keptPoints.length;
+		long[] points = new long[to - from + kept];
+		int size = AklToussaintFilter.filter(xs, ys, from, to, points);
+		if (survivors != null) {
+			survivors.addAndGet(size);
+		}
+		if (kept > 0) {
+			System.arraycopy(keptPoints, 0, points, size, kept);
+			size += kept;
+		}
+		return sortAndComputeHull(points, size);
+	}
+
+	/**
+	 * Gives a hull the shape of <code>HullCalculator.getConvexHull()</code>
+	 * if all points are equal. The monotone chain returns the point once if
+	 * it gets it at most twice, which happens when the equal points were
+	 * reduced before, for example to the hulls of parts of them. Over at
+	 * least three points the point is returned twice.
+	 *
+	 * @param hull
+	 *            the packed points of the hull
+	 * @param pointCount
+	 *            the number of all points the hull was computed for
+	 * @return the hull, with its single point repeated if there were at
+	 *         least three points
+	 */
+	public static long[] repeatSinglePoint(long[] hull, long pointCount) {
+		if (pointCount >= 3 && hull.length == 1) {
+			return new long[] { hull[0], hull[0] };
+		}
+		return hull;
+	}
+
+	/**
+	 * Merges two hulls to one by computing the monotone chain over their
+	 * vertices.
+	 *
+	 * @param left
+	 *            the first hull
+	 * @param right
+	 *            the second hull
+	 * @return the merged hull
+	 */
+	public static long[] mergeHulls(long[] left, long[] right) {
+		long[] points = new long[left.length + right.length];
+		System.arraycopy(left, 0, points, 0, left.length);
+		System.arraycopy(right, 0, points, left.length, right.length);
+		return sortAndComputeHull(points, points.length);
+	}
+
+	/**
+	 * Fills the upper or lower half of the convex hull.
+	 *
+	 * @param sortedPoints
+	 *            the packed points sorted by their X coordinates.
+	 * @param hull
+	 *            the hull half which would be filled
+	 * @param size
+	 *            the size
+	 * @param i
+	 *            the index of the sorted points
+	 * @return the size
+	 */
+	private static int fillHullHalf(long[] sortedPoints, long[] hull,
+			int size, int i) {
+		hull[size] = sortedPoints[i];
+		size++;
+		while (size > 2
+				&& !onTheRight(hull[size - 3], hull[size - 2], hull[size - 1])) {
+			hull[size - 2] = hull[size - 1];
+			size--;
+		}
+		return size;
+	}
+
+	/**
+	 * Checks if a packed point is on the right or on the left to a given line
+	 * between 2 packed points.
+	 *
+	 * @param a
+	 *            point A
+	 * @param b
+	 *            point B
+	 * @param c
+	 *            point C
+	 * @return true, if C is on the right to the line between A and B
+	 */
+	static boolean onTheRight(long a, long b, long c) {
+		long ax = PackedPoint.x(a);
+		long ay = PackedPoint.y(a);
+		long bx = PackedPoint.x(b);
+		long by = PackedPoint.y(b);
+		long cx = PackedPoint.x(c);
+		long cy = PackedPoint.y(c);
+		return (cx - ax) * (cy + ay) + (bx - cx) * (by + cy) + (ax - bx)
+				* (ay + by) < 0;
+	}
+}
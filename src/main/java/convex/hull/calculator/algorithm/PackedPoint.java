@@ -0,0 +1,59 @@
+package convex.hull.calculator.algorithm;
+
+/**
+ * The Class PackedPoint. It packs the two coordinates of a point into one
+ * <code>long</code> key, so that points can be stored and sorted as primitive
+ * values. The natural (signed) order of the keys is the same as the order of
+ * the points by their x coordinates and, if they are equal, by their y
+ * coordinates.
+ *
+ * @author Teodor Shaterov
+ */
+public final class PackedPoint {
+
+	/** The mask for the lower 32 bits of a key. */
+	private static final long LOW_MASK = 0xFFFFFFFFL;
+
+	/**
+	 * A private constructor used to show that the class is a Utils one.
+	 */
+	private PackedPoint() {
+	}
+
+	/**
+	 * Packs the coordinates of a point to a key. The x coordinate is stored in
+	 * the upper 32 bits, the y coordinate with flipped sign bit in the lower
+	 * 32 bits.
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 * @return the key
+	 */
+	public static long pack(int x, int y) {
+		return ((long) x << 32) | ((y ^ Integer.MIN_VALUE) & LOW_MASK);
+	}
+
+	/**
+	 * Gets the x coordinate of a key.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the x coordinate
+	 */
+	public static int x(long key) {
+		return (int) (key >> 32);
+	}
+
+	/**
+	 * Gets the y coordinate of a key.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the y coordinate
+	 */
+	public static int y(long key) {
+		return ((int) key) ^ Integer.MIN_VALUE;
+	}
+}
@@ -0,0 +1,190 @@
+package convex.hull.calculator.algorithm;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The Class ParallelHullEngine. It computes the convex hull with divide and
+ * conquer on a <code>ForkJoinPool</code>. The points are split into chunks
+ * until a chunk is not bigger than the sequential cutoff. The hull of every
+ * chunk is computed with the Akl-Toussaint filter and the monotone chain.
+ * Two sub-hulls are merged by computing the monotone chain over their
+ * vertices, which is cheap because the sub-hulls are much smaller than the
+ * chunks. The result is the same as the one of the sequential monotone chain.
+ *
+ * @author Teodor Shaterov
+ */
+public class ParallelHullEngine {
+
+	/** The Constant DEFAULT_SEQUENTIAL_CUTOFF. */
+	public static final int DEFAULT_SEQUENTIAL_CUTOFF = 1 << 16;
+
+	/** The smallest allowed sequential cutoff. */
+	private static final int MIN_SEQUENTIAL_CUTOFF = 3;
+
+	/** The pool on which the sub-hulls are computed. */
+	private final ForkJoinPool pool;
+
+	/** Chunks with at most this number of points are not split. */
+	private final int sequentialCutoff;
+
+	/** The number of points dropped during the last computation. */
+	private volatile int eliminatedPoints = 0;
+
+	/**
+	 * Instantiates a new parallel hull engine with as many threads as
+	 * available processors and the default sequential cutoff.
+	 */
+	public ParallelHullEngine() {
+		this(Runtime.getRuntime().availableProcessors(),
+				DEFAULT_SEQUENTIAL_CUTOFF);
+	}
+
+	/**
+	 * Instantiates a new parallel hull engine.
+	 *
+	 * @param parallelism
+	 *            the number of threads
+	 * @param sequentialCutoff
+	 *            chunks with at most this number of points are computed
+	 *            sequentially
+	 */
+	public ParallelHullEngine(int parallelism, int sequentialCutoff) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be positive: "
+					+ parallelism);
+		}
+		this.pool = new ForkJoinPool(parallelism);
+		this.sequentialCutoff = Math.max(sequentialCutoff,
+				MIN_SEQUENTIAL_CUTOFF);
+	}
+
+	/**
+	 * Gets the number of threads.
+	 *
+	 * @return the parallelism
+	 */
+	public int getParallelism() {
+		return pool.getParallelism();
+	}
+
+	/**
+	 * Gets the sequential cutoff.
+	 *
+	 * @return the sequential cutoff
+	 */
+	public int getSequentialCutoff() {
+		return sequentialCutoff;
+	}
+
+	/**
+	 * Gets the number of points which were dropped by the Akl-Toussaint
+	 * filters of the chunks during the last computation.
+	 *
+	 * @return the number of the eliminated points
+	 */
+	public int getEliminatedPointCount() {
+		return eliminatedPoints;
+	}
+
+	/**
+	 * Computes the convex hull of the first <code>size</code> points. The
+	 * hull has the same order as the one of
+	 * <code>MonotoneChain.computeHull</code>.
+	 *
+	 * @param xs
+	 *            the x coordinates
+	 * @param ys
+	 *            the y coordinates
+	 * @param size
+	 *            the number of points
+	 * @return the packed points which are forming the convex hull
+	 */
+	public long[] computeHull(int[] xs, int[] ys, int size) {
+		AtomicInteger survivors = new AtomicInteger();
+		long[] hull;
+		if (size <= sequentialCutoff) {
+			hull = new SubHullTask(xs, ys, 0, size, survivors).compute();
+		} else {
+			hull = pool.invoke(new SubHullTask(xs, ys, 0, size, survivors));
+		}
+		eliminatedPoints = size - survivors.get();
+		return MonotoneChain.repeatSinglePoint(hull, size);
+	}
+
+	/**
+	 * Shuts the pool of the engine down. The engine can not be used after
+	 * that.
+	 */
+	public void shutdown() {
+		pool.shutdown();
+	}
+
+	/**
+	 * The Class SubHullTask. It computes the hull of the points in a range of
+	 * indices.
+	 */
+	private class SubHullTask extends RecursiveTask<long[]> {
+
+		/** The Constant serialVersionUID. */
+		private static final long serialVersionUID = 2914738566180139517L;
+
+		/** The x coordinates. */
+		private final int[] xs;
+
+		/** The y coordinates. */
+		private final int[] ys;
+
+		/** The first index of the range. */
+		private final int from;
+
+		/** The index after the last one of the range. */
+		private final int to;
+
+		/** The number of points which survived the filters. */
+		private final AtomicInteger survivors;
+
+		/**
+		 * Instantiates a new sub-hull task.
+		 *
+		 * @param xs
+		 *            the x coordinates
+		 * @param ys
+		 *            the y coordinates
+		 * @param from
+		 *            the first index of the range
+		 * @param to
+		 *            the index after the last one of the range
+		 * @param survivors
+		 *            the counter for the points which survived the filters
+		 */
+		SubHullTask(int[] xs, int[] ys, int from, int to,
+				AtomicInteger survivors) {
+			this.xs = xs;
+			this.ys = ys;
+			this.from = from;
+			this.to = to;
+			this.survivors = survivors;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.util.concurrent.RecursiveTask#compute()
+		 */
+		@Override
+		protected long[] compute() {
+			if (to - from <= sequentialCutoff) {
+				return MonotoneChain.computeHull(xs, ys, from, to, null,
+						survivors);
+			}
+			int middle = (from + to) >>> 1;
+			SubHullTask left = new SubHullTask(xs, ys, from, middle, survivors);
+			SubHullTask right = new SubHullTask(xs, ys, middle, to, survivors);
+			left.fork();
+			long[] rightHull = right.compute();
+			return MonotoneChain.mergeHulls(left.join(), rightHull);
+		}
+	}
+}
@@ -0,0 +1,187 @@
+package convex.hull.calculator.algorithm;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The Class ParallelPointFileLoader. It loads a point file on several
+ * threads. The file is split into byte ranges which are aligned to the
+ * beginning of lines, every range is parsed by <code>PointFileParser</code>
+ * into its own <code>PointStore</code> and at the end the stores are appended
+ * to the target in the order of the ranges, so the order of the points is the
+ * same as the one of the sequential parser.
+ *
+ * @author Teodor Shaterov
+ */
+public class ParallelPointFileLoader {
+
+	/** Files smaller than this are parsed on the calling thread. */
+	public static final long PARALLEL_THRESHOLD = 1L << 24;
+
+	/** The number of bytes read at once while a range is aligned. */
+	private static final int ALIGN_BUFFER_SIZE = 4096;
+
+	/** The number of threads. */
+	private final int threads;
+
+	/**
+	 * Instantiates a new parallel point file loader.
+	 *
+	 * @param threads
+	 *            the number of threads
+	 */
+	public ParallelPointFileLoader(int threads) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("Threads must be positive: "
+					+ threads);
+		}
+		this.threads = threads;
+	}
+
+	/**
+	 * Gets the number of threads.
+	 *
+	 * @return the threads
+	 */
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * Loads all points from a file and adds them to a store.
+	 *
+	 * @param path
+	 *            the path of the file
+	 * @param target
+	 *            the store where the points are added
+	 * @return the statistics of the load
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public LoadStatistics load(Path path, PointStore target)
+			throws IOException {
+		long start = System.nanoTime();
+		int before = target.size();
+		try (FileChannel channel = FileChannel.open(path,
+				StandardOpenOption.READ)) {
+			long size = channel.size();
+			int usedThreads = size < PARALLEL_THRESHOLD ? 1 : threads;
+			if (usedThreads == 1) {
+				PointFileParser.read(channel, 0, size, target);
+			} else {
+				loadParallel(channel, size, target, usedThreads);
+			}
+			return new LoadStatistics(size, target.size() - before,
+					usedThreads, System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Parses the ranges of the file on a thread pool and appends the results.
+	 *
+	 * @param channel
+	 *            the file channel
+	 * @param size
+	 *            the size of the file
+	 * @param target
+	 *            the store where the points are added
+	 * @param usedThreads
+	 *            the number of threads
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private void loadParallel(final FileChannel channel, long size,
+			PointStore target, int usedThreads) throws IOException {
+		long[] bounds = new long[usedThreads + 1];
+		bounds[usedThreads] = size;
+		for (int i = 1; i < usedThreads; i++) {
+			bounds[i] = Math.max(bounds[i - 1],
+					alignToLine(channel, size * i / usedThreads, size));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(usedThreads);
+		try {
+			List<Future<PointStore>> results = new ArrayList<Future<PointStore>>();
+			for (int i = 0; i < usedThreads; i++) {
+				final long from = bounds[i];
+				final long to = bounds[i + 1];
+				results.add(executor.submit(new Callable<PointStore>() {
+					@Override
+					public PointStore call() throws IOException {
+						PointStore store = new PointStore();
+						PointFileParser.read(channel, from, to, store);
+						return store;
+					}
+				}));
+			}
+			int total = target.size();
+			List<PointStore> stores = new ArrayList<PointStore>();
+			for (Future<PointStore> result : results) {
+				PointStore store = result.get();
+				stores.add(store);
+				total += store.size();
+			}
+			target.ensureCapacity(total);
+			for (PointStore store : stores) {
+				target.addAll(store);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Loading was interrupted", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw new IOException(e.getCause());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Finds the beginning of the first line at or after a position.
+	 *
+	 * @param channel
+	 *            the file channel
+	 * @param position
+	 *            the position
+	 * @param size
+	 *            the size of the file
+	 * @return the beginning of the line
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static long alignToLine(FileChannel channel, long position,
+			long size) throws IOException {
+		if (position == 0) {
+			return 0;
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(ALIGN_BUFFER_SIZE);
+		long current = position - 1;
+		while (current < size) {
+			buffer.clear();
+			int read = channel.read(buffer, current);
+			if (read <= 0) {
+				break;
+			}
+			for (int i = 0; i < read; i++) {
+				byte b = buffer.get(i);
+				if (b == '\n' || b == '\r') {
+					return current + i + 1;
+				}
+			}
+			current += read;
+		}
+		return size;
+	}
+}
@@ -19,13 +19,9 @@ public class PointComparator implements Comparator<Point> {
 	 **/
 	@Override
 	public int compare(Point point1, Point point2) {
-		Integer intPoint1x = new Integer(point1.x);
-		Integer intPoint2x = new Integer(point2.x);
-		Integer intPoint1y = new Integer(point1.y);
-		Integer intPoint2y = new Integer(point2.y);
-		int result = intPoint1x.compareTo(intPoint2x);
+		int result = Integer.compare(point1.x, point2.x);
 		if (result == 0) {
-			return intPoint1y.compareTo(intPoint2y);
+			return Integer.compare(point1.y, point2.y);
 		}
 		return result;
 	}
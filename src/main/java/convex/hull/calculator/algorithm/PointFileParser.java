@@ -0,0 +1,220 @@
+package convex.hull.calculator.algorithm;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The Class PointFileParser. It reads points from a text file where every
+ * line has the format "x y". The file is memory-mapped and the ASCII digits
+ * are parsed directly into a <code>PointStore</code>, so no
+ * <code>String</code> or other object is created per line. The rules are the
+ * same as the ones of reading the file as ISO-8859-1 lines and splitting them
+ * at single spaces: a line is ignored if its first two tokens are not
+ * <code>int</code> values, all tokens after the second one are ignored. The
+ * lines can be terminated by "\n", "\r" or "\r\n".
+ *
+ * @author Teodor Shaterov
+ */
+public class PointFileParser {
+
+	/** The number of bytes which are mapped at once. */
+	private static final long WINDOW_SIZE = 1L << 28;
+
+	/** Reading the first token of a line. */
+	private static final int FIRST_TOKEN = 0;
+
+	/** Reading the second token of a line. */
+	private static final int SECOND_TOKEN = 1;
+
+	/** The line is finished, the rest of it is ignored. */
+	private static final int SKIP_LINE = 2;
+
+	/** The largest absolute value of a negative int. */
+	private static final long INT_LIMIT = -(long) Integer.MIN_VALUE;
+
+	/** The store where the points are added. */
+	private final PointStore target;
+
+	/** What is read at the moment, one of the constants above. */
+	private int state = FIRST_TOKEN;
+
+	/** The x coordinate, after the first token is read. */
+	private int x;
+
+	/** The absolute value of the current token. */
+	private long value;
+
+	/** The number of digits of the current token. */
+	private int digits;
+
+	/** If the current token has a minus sign. */
+	private boolean negative;
+
+	/** If the current token has a sign. */
+	private boolean signed;
+
+	/**
+	 * Instantiates a new point file parser.
+	 *
+	 * @param target
+	 *            the store where the points are added
+	 */
+	public PointFileParser(PointStore target) {
+		this.target = target;
+	}
+
+	/**
+	 * Reads all points from a file and adds them to a store.
+	 *
+	 * @param path
+	 *            the path of the file
+	 * @param target
+	 *            the store where the points are added
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static void read(Path path, PointStore target) throws IOException {
+		try (FileChannel channel = FileChannel.open(path,
+				StandardOpenOption.READ)) {
+			read(channel, 0, channel.size(), target);
+		}
+	}
+
+	/**
+	 * Reads all points from a range of bytes of a file and adds them to a
+	 * store. The range is mapped in windows, a line which is split between
+	 * two windows is handled correctly.
+	 *
+	 * @param channel
+	 *            the file channel
+	 * @param from
+	 *            the first byte of the range
+	 * @param to
+	 *            the byte after the last one of the range
+	 * @param target
+	 *            the store where the points are added
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static void read(FileChannel channel, long from, long to,
+			PointStore target) throws IOException {
+		PointFileParser parser = new PointFileParser(target);
+		for (long position = from; position < to; position += WINDOW_SIZE) {
+			long length = Math.min(WINDOW_SIZE, to - position);
+			MappedByteBuffer buffer = channel.map(
+					FileChannel.MapMode.READ_ONLY, position, length);
+			parser.parse(buffer);
+		}
+		parser.finish();
+	}
+
+	/**
+	 * Parses all remaining bytes of a buffer. A line which is not finished at
+	 * the end of the buffer is continued by the next call.
+	 *
+	 * @param buffer
+	 *            the buffer
+	 */
+	public void parse(ByteBuffer buffer) {
+		int limit = buffer.limit();
+		for (int i = buffer.position(); i < limit; i++) {
+			accept(buffer.get(i));
+		}
+		buffer.position(limit);
+	}
+
+	/**
+	 * Finishes the last line, if the input does not end with a line
+	 * terminator.
+	 */
+	public void finish() {
+		endLine();
+	}
+
+	/**
+	 * Handles one byte of the input.
+	 *
+	 * @param b
+	 *            the byte
+	 */
+	private void accept(byte b) {
+		if (b == '\n' || b == '\r') {
+			endLine();
+		} else if (state == SKIP_LINE) {
+			return;
+		} else if (b == ' ') {
+			endToken();
+		} else if (b >= '0' && b <= '9') {
+			if (value <= INT_LIMIT) {
+				value = value * 10 + (b - '0');
+			}
+			digits++;
+		} else if ((b == '-' || b == '+') && digits == 0 && !signed) {
+			signed = true;
+			negative = b == '-';
+		} else {
+			state = SKIP_LINE;
+		}
+	}
+
+	/**
+	 * Handles the end of a token. After the first token the x coordinate is
+	 * stored, after the second one the point is added.
+	 */
+	private void endToken() {
+		if (!isValidToken()) {
+			state = SKIP_LINE;
+		} else if (state == FIRST_TOKEN) {
+			x = tokenValue();
+			state = SECOND_TOKEN;
+		} else {
+			target.add(x, tokenValue());
+			state = SKIP_LINE;
+		}
+		resetToken();
+	}
+
+	/**
+	 * Handles the end of a line.
+	 */
+	private void endLine() {
+		if (state == SECOND_TOKEN) {
+			endToken();
+		}
+		state = FIRST_TOKEN;
+		resetToken();
+	}
+
+	/**
+	 * Checks if the current token is an int value.
+	 *
+	 * @return true, if it is valid
+	 */
+	private boolean isValidToken() {
+		return digits > 0
+				&& value <= (negative ? INT_LIMIT : Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Gets the value of the current token.
+	 *
+	 * @return the value
+	 */
+	private int tokenValue() {
+		return (int) (negative ? -value : value);
+	}
+
+	/**
+	 * Resets the current token.
+	 */
+	private void resetToken() {
+		value = 0;
+		digits = 0;
+		negative = false;
+		signed = false;
+	}
+}
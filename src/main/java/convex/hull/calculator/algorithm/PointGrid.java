@@ -0,0 +1,356 @@
+package convex.hull.calculator.algorithm;
+
+import java.awt.Point;
+import java.util.BitSet;
+
+/**
+ * The Class PointGrid. It is a uniform grid index over the points of a
+ * <code>PointStore</code>, which finds the points near a position without
+ * looking at all points. The plane is divided into square cells of
+ * <code>CELL_SIZE</code> pixels. Every point is stored as a <code>long</code>
+ * key with the coordinates of its cell in the upper bits and its position in
+ * the cell in the lower bits, and the keys are sorted (see
+ * <code>PointSorter</code>). The points of one column of cells are therefore
+ * a contiguous range, which is found by a binary search.
+ * <p>
+ * Like the cached hull of the <code>HullCalculator</code>, the grid remembers
+ * the modification count of the store it was built from. Single points which
+ * are added or removed are kept in a small list of added points and as
+ * removed keys, so the sorted keys are not changed. All other changes of the
+ * store, or too many single changes, make the grid rebuild itself on the
+ * next search.
+ *
+ * @author Teodor Shaterov
+ */
+public class PointGrid {
+
+	/** The number of bits of the position of a point in its cell. */
+	private static final int CELL_BITS = 4;
+
+	/** The side of a cell in pixels. */
+	public static final int CELL_SIZE = 1 << CELL_BITS;
+
+	/** The mask for one coordinate of the position of a point in its cell. */
+	private static final int CELL_MASK = CELL_SIZE - 1;
+
+	/** The number of bits of a cell coordinate. */
+	private static final int CELL_COORDINATE_BITS = Integer.SIZE - CELL_BITS;
+
+	/** The mask for a cell coordinate. */
+	private static final long CELL_COORDINATE_MASK = (1L << CELL_COORDINATE_BITS) - 1;
+
+	/** The offset which makes the y coordinate of a cell non-negative. */
+	private static final long CELL_Y_OFFSET = 1L << (CELL_COORDINATE_BITS - 1);
+
+	/** The position of the y coordinate of the cell in a key. */
+	private static final int CELL_Y_SHIFT = 2 * CELL_BITS;
+
+	/** The position of the x coordinate of the cell in a key. */
+	private static final int CELL_X_SHIFT = CELL_Y_SHIFT + CELL_COORDINATE_BITS;
+
+	/** The mask for the position of a point in its cell in a key. */
+	private static final long POSITION_MASK = (1L << CELL_Y_SHIFT) - 1;
+
+	/** The least number of single changes which cause a rebuild. */
+	private static final int MIN_REBUILD_CHANGES = 1024;
+
+	/** The sorted keys of the points. */
+	private long[] keys = new long[0];
+
+	/** The number of valid keys. */
+	private int keyCount = 0;
+
+	/** The keys which belong to removed points. */
+	private final BitSet removedKeys = new BitSet();
+
+	/** The number of removed keys. */
+	private int removedCount = 0;
+
+	/** The points which were added after the keys were sorted. */
+	private final PointStore addedPoints = new PointStore();
+
+	/** The modification count of the store which the grid represents. */
+	private long modCount = -1;
+
+	/**
+	 * Finds the nearest point of a store, whose distance to a position is
+	 * smaller than a radius. If the store was changed in another way than by
+	 * <code>add</code>, <code>remove</code> and <code>move</code>, the grid is
+	 * built again.
+	 *
+	 * @param points
+	 *            the store
+	 * @param x
+	 *            the x coordinate of the position
+	 * @param y
+	 *            the y coordinate of the position
+	 * @param radius
+	 *            the radius
+	 * @return the nearest point, or null if there is no point in the radius
+	 */
+	public Point findNearest(PointStore points, int x, int y, int radius) {
+		if (modCount != points.getModificationCount()) {
+			rebuild(points);
+		}
+		double bestDistance = (double) radius * radius;
+		long best = 0;
+		boolean found = false;
+
+		long minCellX = (x - (long) radius) >> CELL_BITS;
+		long maxCellX = (x + (long) radius) >> CELL_BITS;
+		long minY = Math.max((long) y - radius, Integer.MIN_VALUE);
+		long maxY = Math.min((long) y + radius, Integer.MAX_VALUE);
+		for (long cellX = minCellX; cellX <= maxCellX; cellX++) {
+			if (cellX < Integer.MIN_VALUE >> CELL_BITS
+					|| cellX > Integer.MAX_VALUE >> CELL_BITS) {
+				continue;
+			}
+			int columnX = (int) cellX << CELL_BITS;
+			long first = key(columnX, (int) minY) & ~POSITION_MASK;
+			long last = key(columnX, (int) maxY) | POSITION_MASK;
+			int i = lowerBound(first);
+			for (; i < keyCount && keys[i] <= last; i++) {
+				if (removedCount > 0 && removedKeys.get(i)) {
+					continue;
+				}
+				long dx = keyX(keys[i]) - (long) x;
+				long dy = keyY(keys[i]) - (long) y;
+				long distance = dx * dx + dy * dy;
+				if (distance < bestDistance) {
+					bestDistance = distance;
+					best = PackedPoint.pack(keyX(keys[i]), keyY(keys[i]));
+					found = true;
+				}
+			}
+		}
+		for (int i = 0; i < addedPoints.size(); i++) {
+			// The added points can be far away, so their squared distance is
+			// computed without overflow
+			double dx = addedPoints.getX(i) - (double) x;
+			double dy = addedPoints.getY(i) - (double) y;
+			double distance = dx * dx + dy * dy;
+			if (distance < bestDistance) {
+				bestDistance = distance;
+				best = PackedPoint.pack(addedPoints.getX(i),
+						addedPoints.getY(i));
+				found = true;
+			}
+		}
+		return found ? new Point(PackedPoint.x(best), PackedPoint.y(best))
+				: null;
+	}
+
+	/**
+	 * Adds a point which was just added to the store. If the grid did not
+	 * represent the store before that change, nothing is done and the grid
+	 * is built again on the next search.
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 * @param storeModCount
+	 *            the modification count of the store after the change
+	 */
+	public void add(int x, int y, long storeModCount) {
+		if (modCount == storeModCount - 1) {
+			insert(x, y);
+			changed(storeModCount);
+		}
+	}
+
+	/**
+	 * Removes a point which was just removed from the store. If the grid did
+	 * not represent the store before that change, nothing is done and the
+	 * grid is built again on the next search.
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 * @param storeModCount
+	 *            the modification count of the store after the change
+	 */
+	public void remove(int x, int y, long storeModCount) {
+		if (modCount == storeModCount - 1) {
+			if (delete(x, y)) {
+				changed(storeModCount);
+			} else {
+				modCount = -1;
+			}
+		}
+	}
+
+	/**
+	 * Moves a point of the store, which was just changed. If the grid did not
+	 * represent the store before that change, nothing is done and the grid
+	 * is built again on the next search.
+	 *
+	 * @param oldX
+	 *            the old x coordinate
+	 * @param oldY
+	 *            the old y coordinate
+	 * @param newX
+	 *            the new x coordinate
+	 * @param newY
+	 *            the new y coordinate
+	 * @param storeModCount
+	 *            the modification count of the store after the change
+	 */
+	public void move(int oldX, int oldY, int newX, int newY,
+			long storeModCount) {
+		if (modCount == storeModCount - 1) {
+			if (delete(oldX, oldY)) {
+				insert(newX, newY);
+				changed(storeModCount);
+			} else {
+				modCount = -1;
+			}
+		}
+	}
+
+	/**
+	 * Inserts a point into the list of added points.
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 */
+	private void insert(int x, int y) {
+		addedPoints.add(x, y);
+	}
+
+	/**
+	 * Deletes a point from the list of added points or marks its key as
+	 * removed.
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 * @return true, if the point was found
+	 */
+	private boolean delete(int x, int y) {
+		int index = addedPoints.indexOf(x, y);
+		if (index >= 0) {
+			addedPoints.remove(index);
+			return true;
+		}
+		long key = key(x, y);
+		for (int i = lowerBound(key); i < keyCount && keys[i] == key; i++) {
+			if (!removedKeys.get(i)) {
+				removedKeys.set(i);
+				removedCount++;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Builds the grid again from all points of a store.
+	 *
+	 * @param points
+	 *            the store
+	 */
+	private void rebuild(PointStore points) {
+		int size = points.size();
+		if (keys.length < size || keys.length > 2 * size + MIN_REBUILD_CHANGES) {
+			keys = new long[size];
+		}
+		int[] xs = points.xArray();
+		int[] ys = points.yArray();
+		for (int i = 0; i < size; i++) {
+			keys[i] = key(xs[i], ys[i]);
+		}
+		PointSorter.sort(keys, size);
+		keyCount = size;
+		removedKeys.clear();
+		removedCount = 0;
+		addedPoints.clear();
+		modCount = points.getModificationCount();
+	}
+
+	/**
+	 * Remembers a single change. If there are too many of them, the grid is
+	 * built again on the next search.
+	 *
+	 * @param storeModCount
+	 *            the modification count of the store after the change
+	 */
+	private void changed(long storeModCount) {
+		int changes = addedPoints.size() + removedCount;
+		if (changes > Math.max(MIN_REBUILD_CHANGES, keyCount >> 4)) {
+			modCount = -1;
+		} else {
+			modCount = storeModCount;
+		}
+	}
+
+	/**
+	 * Finds the index of the first key which is not smaller than a key.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the index
+	 */
+	private int lowerBound(long key) {
+		int low = 0;
+		int high = keyCount;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (keys[middle] < key) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Creates the key of a point. The x coordinate of the cell is stored as
+	 * signed value in the upper bits, so the signed order of the keys is the
+	 * order of the columns. The y coordinate of the cell follows with an
+	 * offset, then the position of the point in the cell.
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 * @return the key
+	 */
+	static long key(int x, int y) {
+		long cellX = x >> CELL_BITS;
+		long cellY = (y >> CELL_BITS) + CELL_Y_OFFSET;
+		return (cellX << CELL_X_SHIFT)
+				| ((cellY & CELL_COORDINATE_MASK) << CELL_Y_SHIFT)
+				| ((x & CELL_MASK) << CELL_BITS) | (y & CELL_MASK);
+	}
+
+	/**
+	 * Gets the x coordinate of a key.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the x coordinate
+	 */
+	static int keyX(long key) {
+		return ((int) (key >> CELL_X_SHIFT) << CELL_BITS)
+				| (int) ((key >> CELL_BITS) & CELL_MASK);
+	}
+
+	/**
+	 * Gets the y coordinate of a key.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the y coordinate
+	 */
+	static int keyY(long key) {
+		long cellY = ((key >> CELL_Y_SHIFT) & CELL_COORDINATE_MASK)
+				- CELL_Y_OFFSET;
+		return ((int) cellY << CELL_BITS) | (int) (key & CELL_MASK);
+	}
+}
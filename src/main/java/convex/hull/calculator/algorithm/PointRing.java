@@ -0,0 +1,103 @@
+package convex.hull.calculator.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * The Class PointRing. It is a circular sequence of points, like the
+ * <code>DoubleLinkedList</code>: the previous point of the first one is the
+ * last point and the next point of the last one is the first point. The
+ * points are kept in two primitive arrays and are addressed by their index,
+ * so the neighbours of a point are found in constant time and no object is
+ * created while the ring is walked.
+ *
+ * @author Teodor Shaterov
+ */
+public class PointRing {
+
+	/** The x coordinates. */
+	private final int[] xs;
+
+	/** The y coordinates. */
+	private final int[] ys;
+
+	/** The number of points. */
+	private final int size;
+
+	/**
+	 * Instantiates a new point ring with a copy of the points of a store.
+	 *
+	 * @param points
+	 *            the points in the order of the ring
+	 */
+	public PointRing(PointStore points) {
+		this.size = points.size();
+		this.xs = Arrays.copyOf(points.xArray(), size);
+		this.ys = Arrays.copyOf(points.yArray(), size);
+	}
+
+	/**
+	 * Gets the number of points.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Gets the index of the next point.
+	 *
+	 * @param index
+	 *            the index of a point
+	 * @return the index of the next point
+	 */
+	public int next(int index) {
+		return index + 1 == size ? 0 : index + 1;
+	}
+
+	/**
+	 * Gets the index of the previous point.
+	 *
+	 * @param index
+	 *            the index of a point
+	 * @return the index of the previous point
+	 */
+	public int prev(int index) {
+		return index == 0 ? size - 1 : index - 1;
+	}
+
+	/**
+	 * Gets the x coordinate of a point.
+	 *
+	 * @param index
+	 *            the index of the point
+	 * @return the x coordinate
+	 */
+	public int getX(int index) {
+		return xs[index];
+	}
+
+	/**
+	 * Gets the y coordinate of a point.
+	 *
+	 * @param index
+	 *            the index of the point
+	 * @return the y coordinate
+	 */
+	public int getY(int index) {
+		return ys[index];
+	}
+
+	/**
+	 * Checks if two points have the same coordinates.
+	 *
+	 * @param first
+	 *            the index of the first point
+	 * @param second
+	 *            the index of the second point
+	 * @return true, if the coordinates are equal
+	 */
+	public boolean samePoint(int first, int second) {
+		return xs[first] == xs[second] && ys[first] == ys[second];
+	}
+}
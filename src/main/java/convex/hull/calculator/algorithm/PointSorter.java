@@ -0,0 +1,105 @@
+package convex.hull.calculator.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * The Class PointSorter. It sorts packed points (see <code>PackedPoint</code>)
+ * by their x and then by their y coordinates. Big arrays are sorted with a
+ * LSD radix sort over 16 bit digits, small arrays with the primitive
+ * comparison sort of <code>Arrays.sort</code>. Digits which are equal for all
+ * keys (for example the upper bits of small coordinates) are skipped.
+ *
+ * @author Teodor Shaterov
+ */
+public final class PointSorter {
+
+	/** Arrays smaller than this are sorted without the radix sort. */
+	public static final int RADIX_THRESHOLD = 4096;
+
+	/** The number of bits in one digit. */
+	private static final int DIGIT_BITS = 16;
+
+	/** The number of different digits. */
+	private static final int RADIX = 1 << DIGIT_BITS;
+
+	/** The mask for one digit. */
+	private static final int DIGIT_MASK = RADIX - 1;
+
+	/** The number of digits in a key. */
+	private static final int PASSES = Long.SIZE / DIGIT_BITS;
+
+	/**
+	 * A private constructor used to show that the class is a Utils one.
+	 */
+	private PointSorter() {
+	}
+
+	/**
+	 * Sorts the first <code>length</code> packed points of an array.
+	 *
+	 * @param keys
+	 *            the packed points
+	 * @param length
+	 *            the number of points which would be sorted
+	 */
+	public static void sort(long[] keys, int length) {
+		if (length < RADIX_THRESHOLD) {
+			Arrays.sort(keys, 0, length);
+			return;
+		}
+		radixSort(keys, length);
+	}
+
+	/**
+	 * LSD radix sort of the first <code>length</code> packed points. The sign
+	 * bit of every key is flipped while the digits are read, so that the
+	 * unsigned order of the digits is the signed order of the keys.
+	 *
+	 * @param keys
+	 *            the packed points
+	 * @param length
+	 *            the number of points which would be sorted
+	 */
+	static void radixSort(long[] keys, int length) {
+		int[][] counts = new int[PASSES][RADIX];
+		for (int i = 0; i < length; i++) {
+			long key = keys[i] ^ Long.MIN_VALUE;
+			for (int pass = 0; pass < PASSES; pass++) {
+				counts[pass][(int) (key >>> (pass * DIGIT_BITS)) & DIGIT_MASK]++;
+			}
+		}
+
+		long[] source = keys;
+		long[] target = null;
+		for (int pass = 0; pass < PASSES; pass++) {
+			int shift = pass * DIGIT_BITS;
+			int[] count = counts[pass];
+			int firstDigit = (int) ((source[0] ^ Long.MIN_VALUE) >>> shift)
+					& DIGIT_MASK;
+			if (count[firstDigit] == length) {
+				continue;
+			}
+			int offset = 0;
+			for (int digit = 0; digit < RADIX; digit++) {
+				int c = count[digit];
+				count[digit] = offset;
+				offset += c;
+			}
+			if (target == null) {
+				target = new long[length];
+			}
+			for (int i = 0; i < length; i++) {
+				long key = source[i];
+				int digit = (int) ((key ^ Long.MIN_VALUE) >>> shift)
+						& DIGIT_MASK;
+				target[count[digit]++] = key;
+			}
+			long[] swap = source;
+			source = target;
+			target = swap;
+		}
+		if (source != keys) {
+			System.arraycopy(source, 0, keys, 0, length);
+		}
+	}
+}
@@ -0,0 +1,461 @@
+package convex.hull.calculator.algorithm;
+
+import java.awt.Point;
+import java.nio.IntBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The Class PointStore. It keeps the coordinates of a set of points in two
+ * primitive arrays (one for the x and one for the y coordinates), so that no
+ * <code>Point</code> object has to be created for a stored point. The arrays
+ * grow automatically when new points are added. The order of the points is
+ * the order in which they were added.
+ *
+ * @author Teodor Shaterov
+ */
+public class PointStore {
+
+	/** The Constant DEFAULT_CAPACITY. */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/** The x coordinates. */
+	private int[] xs;
+
+	/** The y coordinates. */
+	private int[] ys;
+
+	/** The number of stored points. */
+	private int size;
+
+	/** The number of changes of the stored points. */
+	private long modCount = 0;
+
+	/** The read-only view used by the user interface. */
+	private final List<Point> view = new PointListView();
+
+	/**
+	 * Instantiates a new empty point store.
+	 */
+	public PointStore() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Instantiates a new empty point store with a given initial capacity.
+	 *
+	 * @param capacity
+	 *            the initial capacity
+	 */
+	public PointStore(int capacity) {
+		xs = new int[Math.max(capacity, 1)];
+		ys = new int[Math.max(capacity, 1)];
+		size = 0;
+	}
+
+	/**
+	 * Gets the number of stored points.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks if the store is empty.
+	 *
+	 * @return true, if is empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Adds a point at the end of the store.
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 */
+	public void add(int x, int y) {
+		ensureCapacity(size + 1);
+		xs[size] = x;
+		ys[size] = y;
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Adds all points of another store at the end of this store.
+	 *
+	 * @param other
+	 *            the other store
+	 */
+	public void addAll(PointStore other) {
+		int count = other.size;
+		ensureCapacity(size + count);
+		System.arraycopy(other.xs, 0, xs, size, count);
+		System.arraycopy(other.ys, 0, ys, size, count);
+		size += count;
+		modCount++;
+	}
+
+	/**
+	 * Adds points from two buffers, one with the x and one with the y
+	 * coordinates, at the end of this store. The positions of the buffers are
+	 * moved by <code>count</code>.
+	 *
+	 * @param xBlock
+	 *            the buffer with the x coordinates
+	 * @param yBlock
+	 *            the buffer with the y coordinates
+	 * @param count
+	 *            the number of points
+	 */
+	public void addAll(IntBuffer xBlock, IntBuffer yBlock, int count) {
+		ensureCapacity(size + count);
+		xBlock.get(xs, size, count);
+		yBlock.get(ys, size, count);
+		size += count;
+		modCount++;
+	}
+
+	/**
+	 * Adds points from two arrays, one with the x and one with the y
+	 * coordinates, at the end of this store.
+	 *
+	 * @param xValues
+	 *            the x coordinates
+	 * @param yValues
+	 *            the y coordinates
+	 * @param offset
+	 *            the index of the first point in the arrays
+	 * @param length
+	 *            the number of points
+	 */
+	public void addAll(int[] xValues, int[] yValues, int offset, int length) {
+		if (offset < 0 || length < 0 || length > xValues.length - offset
+				|| length > yValues.length - offset) {
+			throw new IndexOutOfBoundsException("Offset: " + offset
+					+ ", Length: " + length);
+		}
+		ensureCapacity(size + length);
+		System.arraycopy(xValues, offset, xs, size, length);
+		System.arraycopy(yValues, offset, ys, size, length);
+		size += length;
+		modCount++;
+	}
+
+	/**
+	 * Adds all remaining points of a buffer, where every x coordinate is
+	 * followed by its y coordinate, at the end of this store. The position of
+	 * the buffer is moved to its limit.
+	 *
+	 * @param interleaved
+	 *            the buffer with the coordinates
+	 */
+	public void addAllInterleaved(IntBuffer interleaved) {
+		int remaining = interleaved.remaining();
+		if (remaining % 2 != 0) {
+			throw new IllegalArgumentException(
+					"Odd number of coordinates: " + remaining);
+		}
+		int count = remaining / 2;
+		ensureCapacity(size + count);
+		int position = interleaved.position();
+		for (int i = 0; i < count; i++) {
+			xs[size + i] = interleaved.get(position + 2 * i);
+			ys[size + i] = interleaved.get(position + 2 * i + 1);
+		}
+		interleaved.position(position + remaining);
+		size += count;
+		modCount++;
+	}
+
+	/**
+	 * Gets the x coordinate of the point at a given index.
+	 *
+	 * @param index
+	 *            the index
+	 * @return the x coordinate
+	 */
+	public int getX(int index) {
+		checkIndex(index);
+		return xs[index];
+	}
+
+	/**
+	 * Gets the y coordinate of the point at a given index.
+	 *
+	 * @param index
+	 *            the index
+	 * @return the y coordinate
+	 */
+	public int getY(int index) {
+		checkIndex(index);
+		return ys[index];
+	}
+
+	/**
+	 * Sets new coordinates to the point at a given index.
+	 *
+	 * @param index
+	 *            the index
+	 * @param x
+	 *            the new x coordinate
+	 * @param y
+	 *            the new y coordinate
+	 */
+	public void set(int index, int x, int y) {
+		checkIndex(index);
+		xs[index] = x;
+		ys[index] = y;
+		modCount++;
+	}
+
+	/**
+	 * Removes the point at a given index. All following points are shifted to
+	 * the left, so that the order of the points is kept.
+	 *
+	 * @param index
+	 *            the index
+	 */
+	public void remove(int index) {
+		checkIndex(index);
+		int moved = size - index - 1;
+		if (moved > 0) {
+			System.arraycopy(xs, index + 1, xs, index, moved);
+			System.arraycopy(ys, index + 1, ys, index, moved);
+		}
+		size--;
+		modCount++;
+	}
+
+	/**
+	 * Removes points given by two arrays, one with the x and one with the y
+	 * coordinates. For every given point its first occurrence is removed,
+	 * like by <code>remove(indexOf(x, y))</code>, and given points which are
+	 * not in the store are ignored. The order of the other points is kept.
+	 * The given points are sorted as packed keys (see <code>PointSorter</code>)
+	 * and the store is compacted in one pass, so it takes O(n log k) time
+	 * for n stored and k given points instead of O(n k).
+	 *
+	 * @param xValues
+	 *            the x coordinates
+	 * @param yValues
+	 *            the y coordinates
+	 * @param length
+	 *            the number of points
+	 * @return the number of removed points
+	 */
+	public int removeAll(int[] xValues, int[] yValues, int length) {
+		if (length < 0 || length > xValues.length || length > yValues.length) {
+			throw new IndexOutOfBoundsException("Length: " + length);
+		}
+		long[] keys = new long[length];
+		for (int i = 0; i < length; i++) {
+			keys[i] = PackedPoint.pack(xValues[i], yValues[i]);
+		}
+		PointSorter.sort(keys, length);
+		// The number of removed occurrences of the key which starts at an
+		// index of the sorted keys
+		int[] taken = new int[length];
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			long key = PackedPoint.pack(xs[i], ys[i]);
+			int first = lowerBound(keys, length, key);
+			int next = first + (first < length ? taken[first] : 0);
+			if (next < length && keys[next] == key) {
+				taken[first]++;
+				continue;
+			}
+			xs[kept] = xs[i];
+			ys[kept] = ys[i];
+			kept++;
+		}
+		int removed = size - kept;
+		size = kept;
+		modCount++;
+		return removed;
+	}
+
+	/**
+	 * Finds the first index of sorted keys whose key is not smaller than a
+	 * given one.
+	 *
+	 * @param keys
+	 *            the sorted keys
+	 * @param length
+	 *            the number of keys
+	 * @param key
+	 *            the key
+	 * @return the index, or <code>length</code> if all keys are smaller
+	 */
+	private static int lowerBound(long[] keys, int length, long key) {
+		int low = 0;
+		int high = length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (keys[middle] < key) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Gets the index of the first point with the given coordinates.
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 * @return the index of the point, or -1 if there is no such point
+	 */
+	public int indexOf(int x, int y) {
+		for (int i = 0; i < size; i++) {
+			if (xs[i] == x && ys[i] == y) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Removes all points from the store. The capacity is kept.
+	 */
+	public void clear() {
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Removes all points after the first ones.
+	 *
+	 * @param newSize
+	 *            the number of points which are kept
+	 */
+	void truncate(int newSize) {
+		if (newSize < 0 || newSize > size) {
+			throw new IndexOutOfBoundsException("Size: " + newSize);
+		}
+		size = newSize;
+		modCount++;
+	}
+
+	/**
+	 * Gets the modification count. It is changed every time a point is
+	 * added, removed or changed, so two equal counts mean that the points are
+	 * the same.
+	 *
+	 * @return the modification count
+	 */
+	public long getModificationCount() {
+		return modCount;
+	}
+
+	/**
+	 * Makes sure that the store can hold at least the given number of points
+	 * without growing again.
+	 *
+	 * @param capacity
+	 *            the needed capacity
+	 */
+	public void ensureCapacity(int capacity) {
+		if (capacity > xs.length) {
+			int newCapacity = Math.max(capacity, xs.length + (xs.length >> 1));
+			xs = Arrays.copyOf(xs, newCapacity);
+			ys = Arrays.copyOf(ys, newCapacity);
+		}
+	}
+
+	/**
+	 * Gets the array with the x coordinates. Only the first
+	 * <code>size()</code> entries are valid. The array is not copied.
+	 *
+	 * @return the x coordinates
+	 */
+	int[] xArray() {
+		return xs;
+	}
+
+	/**
+	 * Gets the array with the y coordinates. Only the first
+	 * <code>size()</code> entries are valid. The array is not copied.
+	 *
+	 * @return the y coordinates
+	 */
+	int[] yArray() {
+		return ys;
+	}
+
+	/**
+	 * Converts the stored points to an array where array[n][0] is the x
+	 * coordinate and array[n][1] is the y coordinate of the n point.
+	 *
+	 * @return the int array with the coordinates
+	 */
+	public int[][] toArray() {
+		int[][] array = new int[size][2];
+		for (int i = 0; i < size; i++) {
+			array[i][0] = xs[i];
+			array[i][1] = ys[i];
+		}
+		return array;
+	}
+
+	/**
+	 * Gets a read-only list view of the stored points. Every access to the
+	 * view creates a new <code>Point</code> with the current coordinates.
+	 *
+	 * @return the read-only view
+	 */
+	public List<Point> asList() {
+		return view;
+	}
+
+	/**
+	 * Checks if an index is inside the bounds of the store.
+	 *
+	 * @param index
+	 *            the index
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: "
+					+ size);
+		}
+	}
+
+	/**
+	 * The Class PointListView. A read-only list over the stored coordinates.
+	 */
+	private class PointListView extends AbstractList<Point> {
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.util.AbstractList#get(int)
+		 */
+		@Override
+		public Point get(int index) {
+			checkIndex(index);
+			return new Point(xs[index], ys[index]);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.util.AbstractCollection#size()
+		 */
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+}
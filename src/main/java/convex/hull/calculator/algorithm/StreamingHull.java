@@ -0,0 +1,193 @@
+package convex.hull.calculator.algorithm;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The Class StreamingHull. It computes the convex hull of points which are
+ * read block by block, so the points do not have to fit into the memory. The
+ * points of a block are collected in a <code>PointStore</code>. When the
+ * block is full, the points inside its Akl-Toussaint octagon are dropped and
+ * the rest is merged with the running hull by the monotone chain. So the
+ * memory stays proportional to the block size and the size of the hull. The
+ * result is the same as the one of <code>HullCalculator.getConvexHull()</code>
+ * over all points.
+ *
+ * @author Teodor Shaterov
+ */
+public class StreamingHull {
+
+	/** The default number of points of a block. */
+	public static final int DEFAULT_BLOCK_SIZE = 1 << 16;
+
+	/** The number of bytes read at once from a stream. */
+	private static final int READ_BUFFER_SIZE = 1 << 16;
+
+	/** The number of points which are collected before they are merged. */
+	private final int blockSize;
+
+	/** The points of the current block. */
+	private final PointStore block;
+
+	/** The packed points of the running hull. */
+	private long[] hull = new long[0];
+
+	/** The number of all added points. */
+	private long pointCount = 0;
+
+	/** The number of all bytes read from streams. */
+	private long byteCount = 0;
+
+	/**
+	 * Instantiates a new streaming hull with the default block size.
+	 */
+	public StreamingHull() {
+		this(DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Instantiates a new streaming hull.
+	 *
+	 * @param blockSize
+	 *            the number of points which are collected before they are
+	 *            merged with the running hull
+	 */
+	public StreamingHull(int blockSize) {
+		if (blockSize < 1) {
+			throw new IllegalArgumentException("Block size must be positive: "
+					+ blockSize);
+		}
+		this.blockSize = blockSize;
+		this.block = new PointStore(blockSize);
+	}
+
+	/**
+	 * Computes the convex hull of all points of a text point file.
+	 *
+	 * @param path
+	 *            the path of the file
+	 * @return the int array with the coordinates of all points which are
+	 *         forming the convex set
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static int[][] computeHull(Path path) throws IOException {
+		try (InputStream in = Files.newInputStream(path)) {
+			return computeHull(in);
+		}
+	}
+
+	/**
+	 * Computes the convex hull of all points of a stream in the text format
+	 * of the point files. The stream is not closed.
+	 *
+	 * @param in
+	 *            the input stream
+	 * @return the int array with the coordinates of all points which are
+	 *         forming the convex set
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static int[][] computeHull(InputStream in) throws IOException {
+		StreamingHull streamingHull = new StreamingHull();
+		streamingHull.addAll(in);
+		return streamingHull.getHull();
+	}
+
+	/**
+	 * Adds a point.
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 */
+	public void add(int x, int y) {
+		block.add(x, y);
+		pointCount++;
+		if (block.size() >= blockSize) {
+			fold();
+		}
+	}
+
+	/**
+	 * Adds all points of a stream in the text format of the point files (see
+	 * <code>PointFileParser</code>). The stream is not closed.
+	 *
+	 * @param in
+	 *            the input stream
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public void addAll(InputStream in) throws IOException {
+		PointFileParser parser = new PointFileParser(block);
+		byte[] bytes = new byte[READ_BUFFER_SIZE];
+		int read;
+		while ((read = in.read(bytes)) >= 0) {
+			byteCount += read;
+			int before = block.size();
+			parser.parse(ByteBuffer.wrap(bytes, 0, read));
+			pointCount += block.size() - before;
+			if (block.size() >= blockSize) {
+				fold();
+			}
+		}
+		int before = block.size();
+		parser.finish();
+		pointCount += block.size() - before;
+		fold();
+	}
+
+	/**
+	 * Gets the number of all added points.
+	 *
+	 * @return the number of points
+	 */
+	public long getPointCount() {
+		return pointCount;
+	}
+
+	/**
+	 * Gets the number of all bytes read by <code>addAll</code>.
+	 *
+	 * @return the number of bytes
+	 */
+	public long getByteCount() {
+		return byteCount;
+	}
+
+	/**
+	 * Gets the convex hull of all added points in the same shape as
+	 * <code>HullCalculator.getConvexHull()</code>.
+	 *
+	 * @return the int array with the coordinates of all points which are
+	 *         forming the convex set
+	 */
+	public int[][] getHull() {
+		fold();
+		long[] result = MonotoneChain.repeatSinglePoint(hull, pointCount);
+		int[][] array = new int[result.length][2];
+		for (int i = 0; i < result.length; i++) {
+			array[i][0] = PackedPoint.x(result[i]);
+			array[i][1] = PackedPoint.y(result[i]);
+		}
+		return array;
+	}
+
+	/**
+	 * Merges the points of the current block with the running hull and
+	 * clears the block.
+	 */
+	private void fold() {
+		int n = block.size();
+		if (n == 0) {
+			return;
+		}
+		hull = MonotoneChain.computeHull(block.xArray(), block.yArray(), 0, n,
+				hull, null);
+		block.clear();
+	}
+}
@@ -5,12 +5,8 @@ import java.awt.Dimension;
 import java.awt.Point;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
@@ -207,7 +203,7 @@ public class MainWindow extends JFrame implements Observer {
 		fileMenuNew.addActionListener(new ActionListener() {
 			@Override
 			public void actionPerformed(ActionEvent e) {
-				calculator.clear();
+				observable.clear();
 				fileName = null;
 				undoManager.discardAllEdits();
 				optionsMenuUndo.setEnabled(undoManager.canUndo());
@@ -231,6 +227,8 @@ public class MainWindow extends JFrame implements Observer {
 					setTitle(IConfigurationConstants.WINDOW_MAIN_NAME + " - " + fileName);
 					try {
 						observable.addPointsFromFile(file.getAbsolutePath());
+						System.out.println("Loaded " + fileName + ": "
+								+ calculator.getLastLoadStatistics());
 					} catch (IOException e1) {
 						// if an exception is caught, ignore it, no information
 						// would be shown in the canvas
@@ -299,6 +297,7 @@ public class MainWindow extends JFrame implements Observer {
 				}
 				optionsMenuUndo.setEnabled(undoManager.canUndo());
 				optionsMenuRedo.setEnabled(undoManager.canRedo());
+				pointsArea.repaint();
 
 			}
 		});
@@ -312,6 +311,7 @@ public class MainWindow extends JFrame implements Observer {
 				}
 				optionsMenuUndo.setEnabled(undoManager.canUndo());
 				optionsMenuRedo.setEnabled(undoManager.canRedo());
+				pointsArea.repaint();
 
 			}
 		});
@@ -371,28 +371,20 @@ public class MainWindow extends JFrame implements Observer {
 
 	/**
 	 * Write to file. Used to store the coordinates of the drawn points to a
-	 * file.
+	 * file. Files with the extension of <code>BinaryPointFile</code> are
+	 * written in the binary format, all other files as text. The convex hull
+	 * is not computed here, the last result of the points area is stored
+	 * with the points if it is up to date.
 	 *
 	 * @param fileName
 	 *            the file name
 	 */
 	private void writeToFile(String fileName) {
-		Writer writer = null;
 		try {
-			writer = new BufferedWriter(new OutputStreamWriter(
-					new FileOutputStream(fileName), "utf-8"));
-			for (Point point : calculator.getPoints()) {
-				writer.write(point.x + " " + point.y + "\n");
-			}
+			calculator.writePointsToFile(fileName, pointsArea.getHullResult());
 		} catch (IOException ex) {
 			// ignore at the moment. An error window would be a good idea. Can
 			// be implemented in the next part of the project - the Winkelhuelle
-		} finally {
-			try {
-				writer.close();
-			} catch (Exception ex) {
-				// ignore this exception
-			}
 		}
 	}
 
@@ -459,11 +451,11 @@ public class MainWindow extends JFrame implements Observer {
 						- min_height_center + 1))
 						+ min_height_center);
 				undoablePoints.add(point);
-				observable.addPoint(point);
 			}
+			observable.addPoints(undoablePoints);
 			undoManager.undoableEditHappened(new UndoableEditEvent(this,
-					new UndoablePoint(undoablePoints, calculator.getPoints(),
-							false, false)));
+					new UndoablePoint(undoablePoints, calculator, false,
+							false)));
 			undo.setEnabled(undoManager.canUndo());
 			redo.setEnabled(undoManager.canRedo());
 		}
@@ -0,0 +1,293 @@
+package convex.hull.calculator.gui;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+import convex.hull.calculator.algorithm.HullCalculator;
+
+/**
+ * The Class PointLayer. It draws the points of a <code>HullCalculator</code>
+ * into an offscreen image, which is reused by every repaint. The pixels are
+ * written directly into the int buffer of the raster of the image.
+ * <p>
+ * Normally every point is drawn as a black disc. For every pixel the number
+ * of discs which are covering it is counted, so a single added, removed or
+ * moved point only changes the pixels of its discs. If there are so many
+ * points that their discs would cover the whole area, the layer switches to
+ * a density view: every point is counted in its pixel and the pixel is
+ * colored by the count on a logarithmic scale from blue to red.
+ * <p>
+ * The layer remembers the modification count of the calculator. A single
+ * change which is reported with <code>pointAdded</code>,
+ * <code>pointRemoved</code> or <code>pointMoved</code> is drawn at once, all
+ * other changes and a new size make the layer draw all points again.
+ *
+ * @author Teodor Shaterov
+ */
+public class PointLayer {
+
+	/** The radius of the disc of a point. */
+	private static final int RADIUS = 3;
+
+	/** The color of the background. */
+	private static final int BACKGROUND = Color.WHITE.getRGB();
+
+	/** The color of a point. */
+	private static final int POINT = Color.BLACK.getRGB();
+
+	/** The number of colors of the density view. */
+	private static final int DENSITY_LEVELS = 16;
+
+	/** The colors of the density view, by the logarithm of the count. */
+	private static final int[] DENSITY_COLORS = new int[DENSITY_LEVELS];
+
+	/** The x offsets of the pixels of a disc. */
+	private static final int[] DISC_X;
+
+	/** The y offsets of the pixels of a disc. */
+	private static final int[] DISC_Y;
+
+	static {
+		for (int i = 0; i < DENSITY_LEVELS; i++) {
+			float hue = 0.66f * (1 - i / (float) (DENSITY_LEVELS - 1));
+			DENSITY_COLORS[i] = Color.HSBtoRGB(hue, 1, 1);
+		}
+		// The pixels covered by fillOval(x - r, y - r, 2r, 2r) are the ones
+		// whose centers are inside the circle around (x, y)
+		int[] discX = new int[4 * RADIUS * RADIUS];
+		int[] discY = new int[4 * RADIUS * RADIUS];
+		int size = 0;
+		for (int dy = -RADIUS; dy < RADIUS; dy++) {
+			for (int dx = -RADIUS; dx < RADIUS; dx++) {
+				double cx = dx + 0.5;
+				double cy = dy + 0.5;
+				if (cx * cx + cy * cy <= RADIUS * RADIUS) {
+					discX[size] = dx;
+					discY[size] = dy;
+					size++;
+				}
+			}
+		}
+		DISC_X = Arrays.copyOf(discX, size);
+		DISC_Y = Arrays.copyOf(discY, size);
+	}
+
+	/** The calculator. */
+	private final HullCalculator calculator;
+
+	/** The image with the points. */
+	private BufferedImage image = null;
+
+	/** The pixels of the image. */
+	private int[] pixels = null;
+
+	/**
+	 * The number of discs covering every pixel, or the number of points in
+	 * every pixel in the density view.
+	 */
+	private int[] counts = null;
+
+	/** The width of the image. */
+	private int width = 0;
+
+	/** The height of the image. */
+	private int height = 0;
+
+	/** True, if the density view is used. */
+	private boolean density = false;
+
+	/** The modification count of the calculator which the image shows. */
+	private long modCount = -1;
+
+	/**
+	 * Instantiates a new point layer.
+	 *
+	 * @param calculator
+	 *            the calculator with the points
+	 */
+	public PointLayer(HullCalculator calculator) {
+		this.calculator = calculator;
+	}
+
+	/**
+	 * Draws the image with the points. It is drawn again first, if the size
+	 * or the points were changed since the last time.
+	 *
+	 * @param graphics
+	 *            the graphics
+	 * @param newWidth
+	 *            the width of the area
+	 * @param newHeight
+	 *            the height of the area
+	 */
+	public void paint(Graphics graphics, int newWidth, int newHeight) {
+		if (newWidth <= 0 || newHeight <= 0) {
+			return;
+		}
+		if (newWidth != width || newHeight != height) {
+			width = newWidth;
+			height = newHeight;
+			image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+			pixels = ((DataBufferInt) image.getRaster().getDataBuffer())
+					.getData();
+			counts = new int[width * height];
+			modCount = -1;
+		}
+		if (modCount != calculator.getModificationCount()) {
+			redraw();
+		}
+		graphics.drawImage(image, 0, 0, null);
+	}
+
+	/**
+	 * Checks if the density view is used.
+	 *
+	 * @return true, if the points are drawn as density
+	 */
+	public boolean isDensity() {
+		return density;
+	}
+
+	/**
+	 * Draws a point which was just added to the calculator.
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 */
+	public void pointAdded(int x, int y) {
+		if (isNextChange()) {
+			stamp(x, y, 1);
+			modCount++;
+		}
+	}
+
+	/**
+	 * Erases a point which was just removed from the calculator.
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 */
+	public void pointRemoved(int x, int y) {
+		if (isNextChange()) {
+			stamp(x, y, -1);
+			modCount++;
+		}
+	}
+
+	/**
+	 * Moves a point which was just changed in the calculator.
+	 *
+	 * @param oldX
+	 *            the old x coordinate
+	 * @param oldY
+	 *            the old y coordinate
+	 * @param newX
+	 *            the new x coordinate
+	 * @param newY
+	 *            the new y coordinate
+	 */
+	public void pointMoved(int oldX, int oldY, int newX, int newY) {
+		if (isNextChange()) {
+			stamp(oldX, oldY, -1);
+			stamp(newX, newY, 1);
+			modCount++;
+		}
+	}
+
+	/**
+	 * Checks if the image shows the points just before the last change of
+	 * the calculator, so the change can be drawn alone.
+	 *
+	 * @return true, if the last change can be drawn alone
+	 */
+	private boolean isNextChange() {
+		return image != null && modCount == calculator.getModificationCount() - 1;
+	}
+
+	/**
+	 * Draws all points again. The density view is chosen, if the discs of
+	 * the visible points would cover more pixels than there are.
+	 */
+	private void redraw() {
+		int pointCount = calculator.getPointCount();
+		long visible = 0;
+		for (int i = 0; i < pointCount; i++) {
+			if (isInside(calculator.getPointX(i), calculator.getPointY(i))) {
+				visible++;
+			}
+		}
+		density = visible * DISC_X.length > (long) width * height;
+
+		Arrays.fill(pixels, BACKGROUND);
+		Arrays.fill(counts, 0);
+		for (int i = 0; i < pointCount; i++) {
+			stamp(calculator.getPointX(i), calculator.getPointY(i), 1);
+		}
+		modCount = calculator.getModificationCount();
+	}
+
+	/**
+	 * Adds or removes a point and colors the pixels it changes.
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 * @param delta
+	 *            1 if the point is added, -1 if it is removed
+	 */
+	private void stamp(int x, int y, int delta) {
+		if (density) {
+			if (isInside(x, y)) {
+				int pixel = y * width + x;
+				counts[pixel] += delta;
+				pixels[pixel] = densityColor(counts[pixel]);
+			}
+			return;
+		}
+		for (int i = 0; i < DISC_X.length; i++) {
+			int px = x + DISC_X[i];
+			int py = y + DISC_Y[i];
+			if (isInside(px, py)) {
+				int pixel = py * width + px;
+				counts[pixel] += delta;
+				pixels[pixel] = counts[pixel] > 0 ? POINT : BACKGROUND;
+			}
+		}
+	}
+
+	/**
+	 * Gets the color of a pixel in the density view.
+	 *
+	 * @param count
+	 *            the number of points in the pixel
+	 * @return the color
+	 */
+	private static int densityColor(int count) {
+		if (count <= 0) {
+			return BACKGROUND;
+		}
+		int level = 31 - Integer.numberOfLeadingZeros(count);
+		return DENSITY_COLORS[Math.min(level, DENSITY_LEVELS - 1)];
+	}
+
+	/**
+	 * Checks if a pixel is inside the image.
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 * @return true, if it is inside
+	 */
+	private boolean isInside(int x, int y) {
+		return x >= 0 && y >= 0 && x < width && y < height;
+	}
+}
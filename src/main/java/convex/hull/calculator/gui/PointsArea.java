@@ -12,14 +12,20 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
 import java.awt.geom.Arc2D;
+import java.util.Collections;
+import java.util.List;
 
 import javax.swing.JMenuItem;
 import javax.swing.JPanel;
 import javax.swing.event.UndoableEditEvent;
 import javax.swing.undo.UndoManager;
 
+import convex.hull.calculator.algorithm.DragHull;
 import convex.hull.calculator.algorithm.HullCalculator;
+import convex.hull.calculator.algorithm.HullComputeListener;
+import convex.hull.calculator.algorithm.HullComputeScheduler;
 import convex.hull.calculator.algorithm.HullObservable;
+import convex.hull.calculator.algorithm.HullResult;
 
 /**
  * The Class PointsArea. The are where the convex hull is drawn.
@@ -47,8 +53,11 @@ public class PointsArea extends JPanel implements MouseListener,
 	/** The redo menu item. */
 	private final JMenuItem redo;
 
-	/** The radius. */
-	private final int radius = 3;
+	/** The layer with the image of the points. */
+	private final PointLayer pointLayer;
+
+	/** The scheduler which computes the hulls off the event thread. */
+	private final HullComputeScheduler scheduler;
 
 	/** The control pressed. */
 	private boolean controlPressed = false;
@@ -65,6 +74,12 @@ public class PointsArea extends JPanel implements MouseListener,
 	/** The index. */
 	private volatile int index = -1;
 
+	/**
+	 * The hull which follows the dragged point. It is drawn until the
+	 * scheduler has the result for the points after the drag.
+	 */
+	private DragHull dragHull = null;
+
 	/**
 	 * Instantiates a new points area.
 	 *
@@ -86,6 +101,14 @@ public class PointsArea extends JPanel implements MouseListener,
 		this.undoManager = undoManager;
 		this.redo = redo;
 		this.undo = undo;
+		this.pointLayer = new PointLayer(calculator);
+		this.scheduler = new HullComputeScheduler(calculator,
+				new HullComputeListener() {
+					@Override
+					public void hullComputed(HullResult result) {
+						repaint();
+					}
+				});
 
 		setBackground(Color.WHITE);
 		setFocusable(true);
@@ -94,31 +117,61 @@ public class PointsArea extends JPanel implements MouseListener,
 		addMouseMotionListener(this);
 	}
 
+	/**
+	 * Gets the last result of the scheduler. It can be outdated, its
+	 * modification count tells for which points it was computed.
+	 *
+	 * @return the result, or null if no computation is finished yet
+	 */
+	HullResult getHullResult() {
+		return scheduler.getResult();
+	}
+
 	/**
 	 * When the mouse is clicked, a new black point is drawn on the canvas. The
-	 * convex and angle hulls are as well drawn by this method.
+	 * points are drawn from the cached image of the point layer (see
+	 * <code>PointLayer</code>). The convex and angle hulls are drawn over it
+	 * as vector shapes. They are not computed here, but read from the last
+	 * result of the scheduler (see <code>HullComputeScheduler</code>); if it
+	 * is outdated, a new computation is requested and the area is painted
+	 * again when it is finished. While a point is dragged, the hull of the
+	 * drag (see <code>DragHull</code>) is drawn without the angle hulls
+	 * instead.
 	 * 
 	 * @see javax.swing.JComponent#paintComponent(java.awt.Graphics)
 	 */
 	@Override
 	protected void paintComponent(Graphics g) {
 		super.paintComponent(g);
+		pointLayer.paint(g, getWidth(), getHeight());
+		if (!pointClicked) {
+			scheduler.requestCompute();
+			if (dragHull != null
+					&& (scheduler.isUpToDate() || dragHull
+							.getModificationCount() != calculator
+							.getModificationCount())) {
+				dragHull = null;
+			}
+		}
 		Graphics2D graphics = (Graphics2D) g;
 		graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
 				RenderingHints.VALUE_ANTIALIAS_ON);
 
-		for (Point point : calculator.getPoints()) {
-			graphics.setColor(Color.BLACK);
-			graphics.fillOval(point.x - radius, point.y - radius, radius * 2,
-					radius * 2);
-
-		}
-
 		Polygon polygonHull = new Polygon();
-		int[][] convexHull = observable.getConvexHull();
-
-		for (int i = 0; i < convexHull.length; i++) {
-			polygonHull.addPoint(convexHull[i][0], convexHull[i][1]);
+		List<Arc2D.Double> arcs = Collections.emptyList();
+		if (dragHull != null) {
+			for (int i = 0; i < dragHull.size(); i++) {
+				polygonHull.addPoint(dragHull.getX(i), dragHull.getY(i));
+			}
+		} else {
+			HullResult result = scheduler.getResult();
+			if (result != null) {
+				for (int i = 0; i < result.getHullSize(); i++) {
+					polygonHull.addPoint(result.getHullX(i),
+							result.getHullY(i));
+				}
+				arcs = result.getArcs();
+			}
 		}
 
 		if (polygonHull.npoints > 0) {
@@ -126,7 +179,7 @@ public class PointsArea extends JPanel implements MouseListener,
 			graphics.drawPolygon(polygonHull);
 		}
 
-		for (Arc2D.Double arc : calculator.getArcs()) {
+		for (Arc2D.Double arc : arcs) {
 			graphics.setColor(Color.RED);
 			graphics.draw(arc);
 		}
@@ -141,12 +194,28 @@ public class PointsArea extends JPanel implements MouseListener,
 	@Override
 	public void mouseDragged(MouseEvent e) {
 		if (pointClicked && movedPoint != null) {
-			movedPoint.setLocation(e.getX(), e.getY());
-			calculator.setPoint(index, movedPoint);
+			movePoint(e.getX(), e.getY());
 			repaint();
 		}
 	}
 
+	/**
+	 * Moves the point which is dragged to new coordinates. Only the dragged
+	 * point is tested against the hull of the other points.
+	 *
+	 * @param x
+	 *            the new x coordinate
+	 * @param y
+	 *            the new y coordinate
+	 */
+	private void movePoint(int x, int y) {
+		int oldX = calculator.getPointX(index);
+		int oldY = calculator.getPointY(index);
+		movedPoint.setLocation(x, y);
+		calculator.dragTo(dragHull, x, y);
+		pointLayer.pointMoved(oldX, oldY, x, y);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -179,9 +248,9 @@ public class PointsArea extends JPanel implements MouseListener,
 		Point point = calculator.pointCloseEnough(e.getX(), e.getY());
 		if (controlPressed && point != null) {
 			calculator.removePoint(point);
+			pointLayer.pointRemoved(point.x, point.y);
 			undoManager.undoableEditHappened(new UndoableEditEvent(this,
-					new UndoablePoint(point, calculator.getPoints(), true,
-							false)));
+					new UndoablePoint(point, calculator, true, false)));
 			undo.setEnabled(undoManager.canUndo());
 			redo.setEnabled(undoManager.canRedo());
 
@@ -190,11 +259,13 @@ public class PointsArea extends JPanel implements MouseListener,
 			movedPoint = point;
 			index = calculator.getIndex(point);
 			startingPoint = new Point(point.x, point.y);
+			dragHull = calculator.beginDrag(index, scheduler.getResult());
 		} else {
 			observable.addPoint(e.getX(), e.getY());
+			pointLayer.pointAdded(e.getX(), e.getY());
 			undoManager.undoableEditHappened(new UndoableEditEvent(this,
-					new UndoablePoint(new Point(e.getX(), e.getY()), calculator
-							.getPoints(), false, false)));
+					new UndoablePoint(new Point(e.getX(), e.getY()), calculator,
+							false, false)));
 			undo.setEnabled(undoManager.canUndo());
 			redo.setEnabled(undoManager.canRedo());
 		}
@@ -203,20 +274,22 @@ public class PointsArea extends JPanel implements MouseListener,
 
 	/**
 	 * When the mouse is released, the flags used for the mouse moving are
-	 * reset.
+	 * reset. The hull of the drag is committed to the scheduler, so only the
+	 * angle hulls are computed for the new position.
 	 * 
 	 * @see java.awt.event.MouseListener#mouseReleased(java.awt.event.MouseEvent)
 	 */
 	@Override
 	public void mouseReleased(MouseEvent e) {
 		if (pointClicked && movedPoint != null) {
-			movedPoint.setLocation(e.getX(), e.getY());
-			calculator.setPoint(index, movedPoint);
+			movePoint(e.getX(), e.getY());
+			calculator.endDrag(dragHull);
+			scheduler.commitDrag(dragHull);
 			undoManager
 					.undoableEditHappened(new UndoableEditEvent(this,
 							new UndoablePoint(startingPoint, new Point(
 									movedPoint.x, movedPoint.y), index,
-									calculator.getPoints(), true)));
+									calculator, true)));
 			undo.setEnabled(undoManager.canUndo());
 			redo.setEnabled(undoManager.canRedo());
 			repaint();
@@ -7,6 +7,8 @@ import javax.swing.undo.AbstractUndoableEdit;
 import javax.swing.undo.CannotRedoException;
 import javax.swing.undo.CannotUndoException;
 
+import convex.hull.calculator.algorithm.HullCalculator;
+
 /**
  * The Class UndoablePoint. It extends <code>AbstractUndoableEdit</code> so that
  * all events which are undoable can be added to the undo manager.
@@ -15,8 +17,8 @@ import javax.swing.undo.CannotUndoException;
  */
 public class UndoablePoint extends AbstractUndoableEdit {
 
-	/** The points. */
-	private List<Point> points = null;
+	/** The calculator which holds all points. */
+	private HullCalculator calculator = null;
 
 	/** The point list. */
 	private List<Point> pointList = null;
@@ -48,17 +50,17 @@ public class UndoablePoint extends AbstractUndoableEdit {
 	 *
 	 * @param singlePoint
 	 *            the single point
-	 * @param list
-	 *            the list
+	 * @param calculator
+	 *            the calculator
 	 * @param isDeletion
 	 *            the is deletion
 	 * @param isReplacer
 	 *            the is replacer
 	 */
-	public UndoablePoint(Point singlePoint, List<Point> list,
+	public UndoablePoint(Point singlePoint, HullCalculator calculator,
 			boolean isDeletion, boolean isReplacer) {
 		this.singlePoint = singlePoint;
-		this.points = list;
+		this.calculator = calculator;
 		this.isDeletion = isDeletion;
 		this.isReplacer = isReplacer;
 	}
@@ -69,17 +71,17 @@ public class UndoablePoint extends AbstractUndoableEdit {
 	 *
 	 * @param pointList
 	 *            the point list
-	 * @param points
-	 *            the points
+	 * @param calculator
+	 *            the calculator
 	 * @param isDeletion
 	 *            the is deletion
 	 * @param isReplacer
 	 *            the is replacer
 	 */
-	public UndoablePoint(List<Point> pointList, List<Point> points,
+	public UndoablePoint(List<Point> pointList, HullCalculator calculator,
 			boolean isDeletion, boolean isReplacer) {
 		this.pointList = pointList;
-		this.points = points;
+		this.calculator = calculator;
 		this.isDeletion = isDeletion;
 		this.isReplacer = isReplacer;
 	}
@@ -95,14 +97,14 @@ public class UndoablePoint extends AbstractUndoableEdit {
 	 *            the end point
 	 * @param index
 	 *            the index
-	 * @param points
-	 *            the points
+	 * @param calculator
+	 *            the calculator
 	 * @param isReplacer
 	 *            the is replacer
 	 */
 	public UndoablePoint(Point startingPoint, Point endPoint, int index,
-			List<Point> points, boolean isReplacer) {
-		this.points = points;
+			HullCalculator calculator, boolean isReplacer) {
+		this.calculator = calculator;
 		this.isDeletion = false;
 		this.isReplacer = isReplacer;
 		this.startingPoint = startingPoint;
@@ -120,18 +122,18 @@ public class UndoablePoint extends AbstractUndoableEdit {
 		super.undo();
 		if (isDeletion && !isReplacer) {
 			if (singlePoint != null) {
-				points.add(singlePoint);
+				calculator.addPoint(singlePoint.x, singlePoint.y);
 			} else {
-				points.addAll(pointList);
+				addAll(pointList);
 			}
 		} else if (!isDeletion && !isReplacer) {
 			if (singlePoint != null) {
-				points.remove(singlePoint);
+				calculator.removePoint(singlePoint);
 			} else {
-				points.removeAll(pointList);
+				removeAll(pointList);
 			}
 		} else {
-			points.set(index, startingPoint);
+			calculator.setPoint(index, startingPoint);
 		}
 	}
 
@@ -145,19 +147,41 @@ public class UndoablePoint extends AbstractUndoableEdit {
 		super.redo();
 		if (isDeletion && !isReplacer) {
 			if (singlePoint != null) {
-				points.remove(singlePoint);
+				calculator.removePoint(singlePoint);
 			} else {
-				points.removeAll(pointList);
+				removeAll(pointList);
 			}
 		} else if (!isDeletion && !isReplacer) {
 			if (singlePoint != null) {
-				points.add(singlePoint);
+				calculator.addPoint(singlePoint.x, singlePoint.y);
 			} else {
-				points.addAll(pointList);
+				addAll(pointList);
 			}
 		} else {
-			points.set(index, endPoint);
+			calculator.setPoint(index, endPoint);
 
 		}
 	}
+
+	/**
+	 * Adds all points of a list to the calculator.
+	 *
+	 * @param list
+	 *            the points to be added
+	 */
+	private void addAll(List<Point> list) {
+		for (Point point : list) {
+			calculator.addPoint(point.x, point.y);
+		}
+	}
+
+	/**
+	 * Removes all points of a list from the calculator in one pass.
+	 *
+	 * @param list
+	 *            the points to be removed
+	 */
+	private void removeAll(List<Point> list) {
+		calculator.removePoints(list);
+	}
 }